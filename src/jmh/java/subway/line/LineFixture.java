@@ -0,0 +1,55 @@
+package subway.line;
+
+import subway.line.model.Line;
+import subway.line.model.Section;
+import subway.station.model.Station;
+
+public class LineFixture {
+
+    public static final long DISTANCE = 10L;
+
+    public static Station station(final long id) {
+        return Station.builder()
+                .id(id)
+                .name(id + "역")
+                .build();
+    }
+
+    public static Section section(final Station upStation, final Station downStation) {
+        return Section.builder()
+                .upStation(upStation)
+                .downStation(downStation)
+                .distance(DISTANCE)
+                .build();
+    }
+
+    public static Line emptyLine(final long id, final Station upStation, final Station downStation) {
+        return Line.builder()
+                .id(id)
+                .name(id + "호선")
+                .color("bg-blue-600")
+                .upStation(upStation)
+                .downStation(downStation)
+                .build();
+    }
+
+    /**
+     * 1번 역부터 sectionCount + 1 번 역까지 차례로 이어지는 노선을 만든다.
+     */
+    public static Line lineWithSections(final long id, final int sectionCount) {
+        Station[] stations = stations(sectionCount + 1);
+        Line line = emptyLine(id, stations[0], stations[1]);
+        for (int i = 0; i < sectionCount; i++) {
+            line.addSection(section(stations[i], stations[i + 1]));
+        }
+        return line;
+    }
+
+    public static Station[] stations(final int count) {
+        Station[] stations = new Station[count];
+        for (int i = 0; i < count; i++) {
+            stations[i] = station(i + 1L);
+        }
+        return stations;
+    }
+}
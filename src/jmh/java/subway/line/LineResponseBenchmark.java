@@ -0,0 +1,47 @@
+package subway.line;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import subway.line.dto.LineResponse;
+import subway.line.model.Line;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineResponseBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Line line;
+    private List<LineResponse> lineResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        line = LineFixture.lineWithSections(1L, sectionCount);
+        lineResponses = List.of(LineResponse.from(line));
+    }
+
+    @Benchmark
+    public LineResponse lineResponseFrom() {
+        return LineResponse.from(line);
+    }
+
+    @Benchmark
+    public byte[] serializeLineResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lineResponses);
+    }
+}
@@ -0,0 +1,53 @@
+package subway.line;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import subway.line.model.Line;
+import subway.station.model.Station;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마지막 구간 삭제를 잰다. 호출마다 구간을 되붙이는 준비 작업이 필요해 LineSectionsBenchmark 와 상태를 나눈다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineSectionDeleteBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private Station[] stations;
+    private Line line;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stations = LineFixture.stations(sectionCount + 1);
+        line = LineFixture.lineWithSections(1L, sectionCount);
+    }
+
+    /**
+     * 삭제 벤치마크가 지운 마지막 구간을 다시 붙여 매 호출마다 같은 길이의 노선을 사용한다.
+     */
+    @Setup(Level.Invocation)
+    public void restoreTailSection() {
+        Station tail = stations[sectionCount];
+        if (!line.getDownStation().equals(tail)) {
+            line.addSection(LineFixture.section(stations[sectionCount - 1], tail));
+        }
+    }
+
+    @Benchmark
+    public Line deleteSectionByStation() {
+        line.deleteSectionByStation(stations[sectionCount]);
+        return line;
+    }
+}
@@ -0,0 +1,53 @@
+package subway.line;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import subway.line.model.Line;
+import subway.station.model.Station;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineSectionsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private Station[] stations;
+    private Line line;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stations = LineFixture.stations(sectionCount + 1);
+        line = LineFixture.lineWithSections(1L, sectionCount);
+    }
+
+    /**
+     * LineSections.add 를 sectionCount 번 호출해 노선 하나를 만든다.
+     */
+    @Benchmark
+    public Line addSections() {
+        Line built = LineFixture.emptyLine(2L, stations[0], stations[1]);
+        for (int i = 0; i < sectionCount; i++) {
+            built.addSection(LineFixture.section(stations[i], stations[i + 1]));
+        }
+        return built;
+    }
+
+    @Benchmark
+    public void getDownStations(Blackhole blackhole) {
+        for (Station station : line.getLineSections().getDownStations()) {
+            blackhole.consume(station);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package subway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 JSON 응답. 압축할 만큼 큰 응답은 gzip 본문도 미리 만들어 둔다.
+ */
+public class EncodedResponse {
+
+    private static final String GZIP = "gzip";
+
+    private final long version;
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private EncodedResponse(final long version, final byte[] json, final byte[] gzip) {
+        this.version = version;
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    /**
+     * 같은 버전이면 gzip 본문과 원본 본문에 같은 태그를 쓰므로, 바이트가 같다는 강한 검증자 대신 약한 검증자로 보낸다.
+     */
+    public static String weakETag(final String tag) {
+        return "W/\"" + tag + "\"";
+    }
+
+    public static EncodedResponse of(final long version, final byte[] json, final int gzipMinBytes) {
+        return new EncodedResponse(version, json, json.length >= gzipMinBytes ? compress(json) : null);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getWeight() {
+        return json.length + (gzip == null ? 0L : gzip.length);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(final String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip != null && acceptEncoding != null && acceptEncoding.contains(GZIP)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzip);
+        }
+        return builder.body(json);
+    }
+
+    private static byte[] compress(final byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(bytes)) {
+            gzipStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
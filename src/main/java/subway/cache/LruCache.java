@@ -0,0 +1,90 @@
+package subway.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 항목 무게의 합이 maxWeight 를 넘지 않도록 가장 오래 쓰이지 않은 항목부터 내보내는 캐시.
+ * 항목 수로 제한하려면 무게를 모두 1 로 주면 된다.
+ */
+public class LruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    public LruCache(final long maxWeight, final ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public static <K, V> LruCache<K, V> ofSize(final long maxSize) {
+        return new LruCache<>(maxSize, value -> 1L);
+    }
+
+    public synchronized V get(final K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 항목 하나의 무게가 maxWeight 보다 크면 저장하지 않고 false 를 돌려준다.
+     */
+    public synchronized boolean put(final K key, final V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            remove(key);
+            return false;
+        }
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous);
+        }
+        weight += valueWeight;
+        evictUntilFits();
+        return true;
+    }
+
+    public synchronized V remove(final K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            weight -= weigher.applyAsLong(removed);
+        }
+        return removed;
+    }
+
+    public synchronized void removeIf(final BiPredicate<K, V> predicate) {
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, V> entry = iterator.next();
+            if (predicate.test(entry.getKey(), entry.getValue())) {
+                weight -= weigher.applyAsLong(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0L;
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictUntilFits() {
+        Iterator<V> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= weigher.applyAsLong(eldest.next());
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package subway.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 조회 응답을 직렬화한 바이트로 보관한다. 항목은 노선도 버전과 함께 저장되며,
+ * 요청한 버전과 다르면 다시 직렬화해 교체한다. 전체 크기는 maxBytes 로 제한하고 LRU 로 내보낸다.
+ * 변경 직후 같은 항목을 동시에 요청하면 직렬화는 한 번만 하고 나머지 요청은 그 결과를 함께 받는다.
+ */
+@Component
+public class ResponseBytesCache {
+
+    private static final String METRIC_PREFIX = "response.cache.";
+
+    private final ObjectMapper objectMapper;
+    private final LruCache<String, EncodedResponse> entries;
+    private final int gzipMinBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final SingleFlight<String, EncodedResponse> encodings;
+
+    public ResponseBytesCache(ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${subway.response-cache.max-bytes:67108864}") long maxBytes,
+                              @Value("${subway.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.entries = new LruCache<>(maxBytes, EncodedResponse::getWeight);
+        this.gzipMinBytes = gzipMinBytes;
+        this.hits = meterRegistry.counter(METRIC_PREFIX + "requests", "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_PREFIX + "requests", "result", "miss");
+        this.encodings = new SingleFlight<>(meterRegistry.counter(METRIC_PREFIX + "coalesced"));
+        Gauge.builder(METRIC_PREFIX + "bytes", entries, LruCache::weight).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "entries", entries, LruCache::size).register(meterRegistry);
+    }
+
+    public EncodedResponse get(final String key, final long version, final Supplier<?> body) {
+        EncodedResponse cached = entries.get(key);
+        if (cached != null && cached.getVersion() == version) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return encodings.execute(key + "@" + version, () -> {
+            EncodedResponse current = entries.get(key);
+            if (current != null && current.getVersion() == version) {
+                return current;
+            }
+            EncodedResponse encoded = encode(version, body.get());
+            if (current == null || current.getVersion() < version) {
+                entries.put(key, encoded);
+            }
+            return encoded;
+        });
+    }
+
+    private EncodedResponse encode(final long version, final Object body) {
+        try {
+            return EncodedResponse.of(version, objectMapper.writeValueAsBytes(body), gzipMinBytes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package subway.dump;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.line.dto.LineSummary;
+import subway.line.model.LineSections;
+import subway.line.repository.LineRepository;
+import subway.network.NetworkImportedEvent;
+import subway.path.model.SectionEdge;
+import subway.path.repository.SectionEdgeRepository;
+import subway.station.dto.StationResponse;
+import subway.station.repository.StationRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 노선도 전체를 고정 길이 레코드와 문자열 표로 이루어진 이진 파일로 내보내고, 그 파일을 메모리 맵으로 읽어 다시 들여온다.
+ *
+ * <pre>
+ * 머리글  magic(int) 형식 버전(int) 역 수(int) 노선 수(int) 구간 수(int) 문자열 표 바이트 수(int)
+ * 역      id(long) 이름 위치(int) 이름 길이(int)
+ * 노선    id(long) 버전(long) 이름 위치(int) 이름 길이(int) 색 위치(int) 색 길이(int) 첫 구간 번호(int) 구간 수(int)
+ * 구간    상행역 id(long) 하행역 id(long) 거리(long)  -- 노선 순서, 노선 안에서는 구간 순서대로
+ * 문자열 표  UTF-8 바이트
+ * </pre>
+ *
+ * 들여올 때는 id 와 노선 버전을 그대로 유지하고, 이후에 만드는 역과 구간, 노선의 id 가 겹치지 않도록 시퀀스와 identity 를 옮겨 둔다.
+ * 파일 전체를 한 번에 맵으로 올리므로 파일은 {@link #MAX_FILE_BYTES} 바이트를 넘을 수 없다.
+ * 레코드가 가리키는 구간 범위와 문자열 범위는 저장하기 전에 모두 확인해, 손상된 파일은 아무것도 들여오지 않고 거절한다.
+ */
+@Slf4j
+@Component
+public class NetworkDump {
+
+    static final int MAGIC = 0x53554257;
+    static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 6 * Integer.BYTES;
+    private static final int STATION_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    private static final int LINE_BYTES = 2 * Long.BYTES + 6 * Integer.BYTES;
+    private static final int SECTION_BYTES = 3 * Long.BYTES;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+    static final long MAX_FILE_BYTES = Integer.MAX_VALUE;
+
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+    private final SectionEdgeRepository sectionEdgeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NetworkDump(StationRepository stationRepository,
+                       LineRepository lineRepository,
+                       SectionEdgeRepository sectionEdgeRepository,
+                       JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.sectionEdgeRepository = sectionEdgeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 모두 쓴 뒤 옮기므로, 쓰는 도중에 멈춰도 이전 파일이 깨지지 않는다.
+     */
+    public void export(final Path file) throws IOException {
+        long startedAt = System.nanoTime();
+        Contents contents = readTransaction.execute(status -> new Contents(
+                stationRepository.findAllResponses(),
+                lineRepository.findAllSummaries(),
+                sectionEdgeRepository.findAllEdges()));
+        Map<Long, List<SectionEdge>> sectionsByLine = contents.sections.stream()
+                .collect(Collectors.groupingBy(SectionEdge::getLineId));
+
+        StringTable strings = new StringTable();
+        int[][] stationNames = new int[contents.stations.size()][];
+        for (int i = 0; i < contents.stations.size(); i++) {
+            stationNames[i] = strings.add(contents.stations.get(i).getName());
+        }
+        int[][] lineStrings = new int[contents.lines.size()][];
+        for (int i = 0; i < contents.lines.size(); i++) {
+            LineSummary line = contents.lines.get(i);
+            int[] name = strings.add(line.getName());
+            int[] color = strings.add(line.getColor());
+            lineStrings[i] = new int[]{name[0], name[1], color[0], color[1]};
+        }
+        byte[] stringBytes = strings.toByteArray();
+
+        long size = HEADER_BYTES
+                + (long) STATION_BYTES * contents.stations.size()
+                + (long) LINE_BYTES * contents.lines.size()
+                + (long) SECTION_BYTES * contents.sections.size()
+                + stringBytes.length;
+        if (size > MAX_FILE_BYTES) {
+            throw new IllegalStateException(String.format(
+                    "노선도 파일은 %d 바이트를 넘을 수 없습니다. 내보낼 크기: %d 바이트", MAX_FILE_BYTES, size));
+        }
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(contents.stations.size())
+                    .putInt(contents.lines.size())
+                    .putInt(contents.sections.size())
+                    .putInt(stringBytes.length);
+            for (int i = 0; i < contents.stations.size(); i++) {
+                buffer.putLong(contents.stations.get(i).getId())
+                        .putInt(stationNames[i][0])
+                        .putInt(stationNames[i][1]);
+            }
+            int firstSection = 0;
+            for (int i = 0; i < contents.lines.size(); i++) {
+                LineSummary line = contents.lines.get(i);
+                int sectionCount = sectionsByLine.getOrDefault(line.getId(), List.of()).size();
+                buffer.putLong(line.getId())
+                        .putLong(line.getVersion())
+                        .putInt(lineStrings[i][0])
+                        .putInt(lineStrings[i][1])
+                        .putInt(lineStrings[i][2])
+                        .putInt(lineStrings[i][3])
+                        .putInt(firstSection)
+                        .putInt(sectionCount);
+                firstSection += sectionCount;
+            }
+            for (LineSummary line : contents.lines) {
+                for (SectionEdge section : sectionsByLine.getOrDefault(line.getId(), List.of())) {
+                    buffer.putLong(section.getUpStationId())
+                            .putLong(section.getDownStationId())
+                            .putLong(section.getDistance());
+                }
+            }
+            buffer.put(stringBytes);
+            buffer.force();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("[dump] exported {} stations, {} lines, {} sections to {} ({} bytes) in {} ms",
+                contents.stations.size(), contents.lines.size(), contents.sections.size(), file, size,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 역이 하나도 없는 데이터베이스에만 들여온다. 이미 데이터가 있으면 아무것도 하지 않고 false 를 돌려준다.
+     * 시퀀스를 되돌리므로, 하이버네이트가 id 를 미리 받아 두기 전인 기동 시점에 {@link NetworkDumpLifecycle} 만 부른다.
+     */
+    boolean load(final Path file) throws IOException {
+        long startedAt = System.nanoTime();
+        if (stationRepository.count() > 0) {
+            log.info("[dump] database is not empty, skipped loading {}", file);
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_FILE_BYTES) {
+                throw new IllegalStateException(String.format(
+                        "노선도 파일은 %d 바이트를 넘을 수 없습니다: %s (%d 바이트)", MAX_FILE_BYTES, file, channel.size()));
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 노선도 파일입니다: " + file);
+            }
+            int stationCount = buffer.getInt();
+            int lineCount = buffer.getInt();
+            int sectionCount = buffer.getInt();
+            int stringBytes = buffer.getInt();
+            long stringsEnd = HEADER_BYTES
+                    + (long) STATION_BYTES * stationCount
+                    + (long) LINE_BYTES * lineCount
+                    + (long) SECTION_BYTES * sectionCount
+                    + stringBytes;
+            if (stationCount < 0 || lineCount < 0 || sectionCount < 0 || stringBytes < 0 || stringsEnd != channel.size()) {
+                throw new IllegalStateException("노선도 파일의 길이가 머리글과 맞지 않습니다: " + file);
+            }
+            int stationsAt = HEADER_BYTES;
+            int linesAt = stationsAt + STATION_BYTES * stationCount;
+            int sectionsAt = linesAt + LINE_BYTES * lineCount;
+            int stringsAt = sectionsAt + SECTION_BYTES * sectionCount;
+            ByteBuffer strings = buffer.duplicate().position(stringsAt).slice();
+            validateRecords(file, buffer, stationCount, linesAt, lineCount, sectionCount, stringBytes);
+
+            writeTransaction.executeWithoutResult(status -> {
+                long maxStationId = insertStations(buffer, stationsAt, stationCount, strings);
+                long maxLineId = insertLines(buffer, linesAt, lineCount, sectionsAt, strings);
+                restartIdentifiers(maxStationId, maxLineId, sectionCount);
+            });
+            log.info("[dump] loaded {} stations, {} lines, {} sections from {} in {} ms",
+                    stationCount, lineCount, sectionCount, file, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+        eventPublisher.publishEvent(new NetworkImportedEvent());
+        return true;
+    }
+
+    /**
+     * 역과 노선 레코드가 가리키는 문자열 범위와 노선의 구간 범위가 파일 안에 있는지 확인한다.
+     */
+    private void validateRecords(final Path file,
+                                 final ByteBuffer buffer,
+                                 final int stationCount,
+                                 final int linesAt,
+                                 final int lineCount,
+                                 final int sectionCount,
+                                 final int stringBytes) {
+        for (int i = 0; i < stationCount; i++) {
+            int at = HEADER_BYTES + i * STATION_BYTES;
+            validateRange(file, "역 " + i + "의 이름", buffer.getInt(at + 8), buffer.getInt(at + 12), stringBytes);
+        }
+        for (int i = 0; i < lineCount; i++) {
+            int at = linesAt + i * LINE_BYTES;
+            validateRange(file, "노선 " + i + "의 이름", buffer.getInt(at + 16), buffer.getInt(at + 20), stringBytes);
+            validateRange(file, "노선 " + i + "의 색", buffer.getInt(at + 24), buffer.getInt(at + 28), stringBytes);
+            validateRange(file, "노선 " + i + "의 구간", buffer.getInt(at + 32), buffer.getInt(at + 36), sectionCount);
+        }
+    }
+
+    private void validateRange(final Path file, final String record, final int offset, final int length, final int limit) {
+        if (offset < 0 || length < 0 || (long) offset + length > limit) {
+            throw new IllegalStateException(String.format("노선도 파일이 손상되었습니다: %s (%s 범위 %d+%d 가 %d 를 넘습니다)",
+                    file, record, offset, length, limit));
+        }
+    }
+
+    private long insertStations(final ByteBuffer buffer, final int stationsAt, final int stationCount, final ByteBuffer strings) {
+        long maxId = 0L;
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < stationCount; i++) {
+            int at = stationsAt + i * STATION_BYTES;
+            long id = buffer.getLong(at);
+            maxId = Math.max(maxId, id);
+            batch.add(new Object[]{id, string(strings, buffer.getInt(at + 8), buffer.getInt(at + 12))});
+            flushIfFull("insert into station (id, name) values (?, ?)", batch);
+        }
+        flush("insert into station (id, name) values (?, ?)", batch);
+        return maxId;
+    }
+
+    private long insertLines(final ByteBuffer buffer, final int linesAt, final int lineCount, final int sectionsAt, final ByteBuffer strings) {
+        final String insertLine = "insert into line (id, name, color, up_station_id, down_station_id, version) values (?, ?, ?, ?, ?, ?)";
+        final String insertSection = "insert into section (id, line_id, up_station_id, down_station_id, distance, position) values (?, ?, ?, ?, ?, ?)";
+        long maxId = 0L;
+        long sectionId = 0L;
+        List<Object[]> lines = new ArrayList<>(INSERT_BATCH_SIZE);
+        List<Object[]> sections = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < lineCount; i++) {
+            int at = linesAt + i * LINE_BYTES;
+            long id = buffer.getLong(at);
+            long version = buffer.getLong(at + 8);
+            int firstSection = buffer.getInt(at + 32);
+            int sectionCount = buffer.getInt(at + 36);
+            maxId = Math.max(maxId, id);
+            Long upStationId = null;
+            Long downStationId = null;
+            if (sectionCount > 0) {
+                upStationId = buffer.getLong(sectionsAt + firstSection * SECTION_BYTES);
+                downStationId = buffer.getLong(sectionsAt + (firstSection + sectionCount - 1) * SECTION_BYTES + 8);
+            }
+            lines.add(new Object[]{id,
+                    string(strings, buffer.getInt(at + 16), buffer.getInt(at + 20)),
+                    string(strings, buffer.getInt(at + 24), buffer.getInt(at + 28)),
+                    upStationId, downStationId, version});
+            flushIfFull(insertLine, lines);
+            for (int s = 0; s < sectionCount; s++) {
+                int sectionAt = sectionsAt + (firstSection + s) * SECTION_BYTES;
+                sections.add(new Object[]{++sectionId, id,
+                        buffer.getLong(sectionAt), buffer.getLong(sectionAt + 8), buffer.getLong(sectionAt + 16),
+                        LineSections.SECTION_POSITION_GAP * (s + 1)});
+                if (sections.size() == INSERT_BATCH_SIZE) {
+                    flush(insertLine, lines);
+                    flush(insertSection, sections);
+                }
+            }
+        }
+        flush(insertLine, lines);
+        flush(insertSection, sections);
+        return maxId;
+    }
+
+    /**
+     * 시퀀스는 값 하나로 allocationSize 개의 id 를 나눠 쓰므로, 다음 값에서 나올 가장 작은 id 도 들여온 id 보다 크도록 옮긴다.
+     */
+    private void restartIdentifiers(final long maxStationId, final long maxLineId, final long maxSectionId) {
+        jdbcTemplate.execute("alter sequence station_seq restart with " + (maxStationId + SEQUENCE_ALLOCATION_SIZE));
+        jdbcTemplate.execute("alter sequence section_seq restart with " + (maxSectionId + SEQUENCE_ALLOCATION_SIZE));
+        jdbcTemplate.execute("alter table line alter column id restart with " + (maxLineId + 1));
+    }
+
+    private void flushIfFull(final String sql, final List<Object[]> batch) {
+        if (batch.size() == INSERT_BATCH_SIZE) {
+            flush(sql, batch);
+        }
+    }
+
+    private void flush(final String sql, final List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+    }
+
+    private String string(final ByteBuffer strings, final int offset, final int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = strings.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class Contents {
+        private final List<StationResponse> stations;
+        private final List<LineSummary> lines;
+        private final List<SectionEdge> sections;
+
+        private Contents(final List<StationResponse> stations, final List<LineSummary> lines, final List<SectionEdge> sections) {
+            this.stations = stations;
+            this.lines = lines;
+            this.sections = sections;
+        }
+    }
+
+    private static class StringTable {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private int[] add(final String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            int offset = bytes.size();
+            bytes.writeBytes(encoded);
+            return new int[]{offset, encoded.length};
+        }
+
+        private byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package subway.dump;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * subway.dump.file 을 지정하면 웹 서버가 요청을 받기 전에 그 파일로 노선도를 채우고, 종료할 때 다시 그 파일로 내보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "subway.dump.file")
+public class NetworkDumpLifecycle implements SmartInitializingSingleton {
+
+    private final NetworkDump networkDump;
+
+    @Value("${subway.dump.file}")
+    private String dumpFile;
+
+    @Value("${subway.dump.export-on-shutdown:true}")
+    private boolean exportOnShutdown;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Path file = Paths.get(dumpFile);
+        if (!Files.exists(file)) {
+            log.info("[dump] {} does not exist, starting without it", file);
+            return;
+        }
+        try {
+            networkDump.load(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener
+    public void onClosed(ContextClosedEvent event) throws IOException {
+        if (exportOnShutdown) {
+            networkDump.export(Paths.get(dumpFile));
+        }
+    }
+}
@@ -15,6 +15,12 @@ public class ExceptionController {
         return e.getResponse();
     }
 
+    @ExceptionHandler(SubwayConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse exception(SubwayConflictException e) {
+        return e.getResponse();
+    }
+
     @ExceptionHandler(SubwayNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse exception(SubwayNotFoundException e) {
@@ -0,0 +1,14 @@
+package subway.exception;
+
+import subway.line.constant.SubwayMessage;
+
+public class SubwayConflictException extends SubwayException {
+
+    public SubwayConflictException(SubwayMessage subwayMessage) {
+        super(subwayMessage);
+    }
+
+    public SubwayConflictException(final long code, final String message) {
+        super(code, message);
+    }
+}
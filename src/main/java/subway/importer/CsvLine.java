@@ -0,0 +1,48 @@
+package subway.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 한 줄을 항목으로 나눈다. 쉼표나 큰따옴표가 든 항목은 큰따옴표로 감싸고, 항목 안의 큰따옴표는 두 번 쓴다.
+ * 파일을 한 줄씩 읽으므로 따옴표 안의 줄바꿈은 지원하지 않는다.
+ */
+final class CsvLine {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvLine() {
+    }
+
+    static List<String> split(final long lineNumber, final String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != QUOTE) {
+                    column.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    column.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 큰따옴표가 닫히지 않았습니다: " + line);
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+}
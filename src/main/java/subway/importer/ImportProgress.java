@@ -0,0 +1,41 @@
+package subway.importer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 청크를 커밋할 때마다 지금까지 들여온 행 수와 초당 행 수를 남긴다.
+ */
+@Slf4j
+class ImportProgress {
+
+    private final String target;
+    private final long startedAt = System.nanoTime();
+    private long rows;
+
+    ImportProgress(final String target) {
+        this.target = target;
+    }
+
+    void committed(final long chunkRows) {
+        rows += chunkRows;
+        log.info("[import] {} {} rows ({} rows/s)", target, rows, rowsPerSecond());
+    }
+
+    boolean hasCommitted() {
+        return rows > 0;
+    }
+
+    long finish() {
+        log.info("[import] {} done: {} rows in {} ms ({} rows/s)", target, rows, elapsedNanos() / 1_000_000, rowsPerSecond());
+        return rows;
+    }
+
+    private long rowsPerSecond() {
+        long elapsed = Math.max(elapsedNanos(), 1L);
+        return rows * 1_000_000_000L / elapsed;
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -0,0 +1,12 @@
+package subway.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportResult {
+    private final long stations;
+    private final long lines;
+    private final long sections;
+}
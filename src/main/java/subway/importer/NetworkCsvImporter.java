@@ -0,0 +1,237 @@
+package subway.importer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.line.model.Line;
+import subway.line.model.LineSections;
+import subway.line.model.Section;
+import subway.network.NetworkImportedEvent;
+import subway.station.dto.StationResponse;
+import subway.station.model.Station;
+import subway.station.repository.StationRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 역과 구간 CSV 파일을 한 줄씩 읽어 노선도를 들여온다.
+ * 파일 전체를 메모리에 올리지 않고, chunkSize 행마다 한 트랜잭션으로 묶어 JDBC 배치로 저장한 뒤 영속성 컨텍스트를 비운다.
+ * 메모리에 계속 남는 것은 역 이름과 id 의 대응표와, 아직 끝나지 않은 노선 하나의 구간뿐이다.
+ *
+ * stations.csv 는 역 이름 한 열, sections.csv 는 노선 이름, 노선 색, 상행역 이름, 하행역 이름, 거리 다섯 열이며
+ * 두 파일 모두 첫 줄은 머리글로 보고 건너뛴다. 역 이름 길이와 구간 거리는 행마다 저장하기 전에 확인하고, 잘못된 행은 줄 번호와 함께 알린다.
+ * 항목은 {@link CsvLine} 규칙대로 나눈다. 구간은 노선별로 모여 있고 노선 안에서는 상행부터 순서대로 이어져 있어야 한다.
+ */
+@Component
+public class NetworkCsvImporter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final StationRepository stationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public NetworkCsvImporter(TransactionTemplate transactionTemplate,
+                              StationRepository stationRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${subway.import.chunk-size:1000}") int chunkSize) {
+        this.transactionTemplate = transactionTemplate;
+        this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 청크마다 커밋하므로 도중에 실패해도 앞선 청크는 남는다. 하나라도 커밋되었으면 성공 여부와 관계없이
+     * 가져오기 완료 이벤트를 발행해, 스냅샷과 경로 그래프가 데이터베이스에 남은 행을 다시 읽게 한다.
+     */
+    public ImportResult importFrom(final Path stationsCsv, final Path sectionsCsv) throws IOException {
+        Map<String, Long> stationIds = loadStationIds();
+        ImportProgress stationProgress = new ImportProgress("stations");
+        ImportProgress sectionProgress = null;
+        try {
+            importStations(stationsCsv, stationIds, stationProgress);
+            sectionProgress = new ImportProgress("sections");
+            long lines = importSections(sectionsCsv, stationIds, sectionProgress);
+            return new ImportResult(stationProgress.finish(), lines, sectionProgress.finish());
+        } finally {
+            if (stationProgress.hasCommitted() || (sectionProgress != null && sectionProgress.hasCommitted())) {
+                eventPublisher.publishEvent(new NetworkImportedEvent());
+            }
+        }
+    }
+
+    private Map<String, Long> loadStationIds() {
+        Map<String, Long> stationIds = new HashMap<>();
+        transactionTemplate.execute(status -> {
+            for (StationResponse station : stationRepository.findAllResponses()) {
+                stationIds.putIfAbsent(station.getName(), station.getId());
+            }
+            return null;
+        });
+        return stationIds;
+    }
+
+    private void importStations(final Path stationsCsv,
+                                final Map<String, Long> stationIds,
+                                final ImportProgress progress) throws IOException {
+        List<String> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = Files.newBufferedReader(stationsCsv, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            long lineNumber = 1L;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String name = CsvLine.split(lineNumber, line).get(0).trim();
+                if (name.isEmpty() || stationIds.containsKey(name)) {
+                    continue;
+                }
+                if (name.length() > Station.MAX_NAME_LENGTH) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄의 역 이름은 " + Station.MAX_NAME_LENGTH + "자 이하여야 합니다: " + name);
+                }
+                stationIds.put(name, null);
+                chunk.add(name);
+                if (chunk.size() == chunkSize) {
+                    progress.committed(persistStations(chunk, stationIds));
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            progress.committed(persistStations(chunk, stationIds));
+        }
+    }
+
+    private int persistStations(final List<String> names, final Map<String, Long> stationIds) {
+        transactionTemplate.execute(status -> {
+            for (String name : names) {
+                Station station = Station.builder().name(name).build();
+                entityManager.persist(station);
+                stationIds.put(name, station.getId());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return null;
+        });
+        return names.size();
+    }
+
+    private long importSections(final Path sectionsCsv,
+                                final Map<String, Long> stationIds,
+                                final ImportProgress progress) throws IOException {
+        List<List<SectionRow>> pendingLines = new ArrayList<>();
+        List<SectionRow> currentLine = new ArrayList<>();
+        long lines = 0L;
+        int pendingRows = 0;
+        try (BufferedReader reader = Files.newBufferedReader(sectionsCsv, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            long lineNumber = 1L;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                SectionRow row = SectionRow.parse(lineNumber, line);
+                if (!currentLine.isEmpty() && !currentLine.get(0).getLineName().equals(row.getLineName())) {
+                    pendingLines.add(currentLine);
+                    lines++;
+                    currentLine = new ArrayList<>();
+                    if (pendingRows >= chunkSize) {
+                        progress.committed(persistLines(pendingLines, stationIds));
+                        pendingLines.clear();
+                        pendingRows = 0;
+                    }
+                }
+                currentLine.add(row);
+                pendingRows++;
+            }
+        }
+        if (!currentLine.isEmpty()) {
+            pendingLines.add(currentLine);
+            lines++;
+        }
+        if (!pendingLines.isEmpty()) {
+            progress.committed(persistLines(pendingLines, stationIds));
+        }
+        return lines;
+    }
+
+    private int persistLines(final List<List<SectionRow>> lines, final Map<String, Long> stationIds) {
+        lines.forEach(this::validateChain);
+        return transactionTemplate.execute(status -> {
+            int rows = 0;
+            for (List<SectionRow> sections : lines) {
+                rows += persistLine(sections, stationIds);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return rows;
+        });
+    }
+
+    private int persistLine(final List<SectionRow> sections, final Map<String, Long> stationIds) {
+        SectionRow first = sections.get(0);
+        SectionRow last = sections.get(sections.size() - 1);
+        Line line = Line.builder()
+                .name(first.getLineName())
+                .color(first.getLineColor())
+                .upStation(stationOf(first.getUpStationName(), first, stationIds))
+                .downStation(stationOf(last.getDownStationName(), last, stationIds))
+                .build();
+        entityManager.persist(line);
+        long position = 0L;
+        for (SectionRow row : sections) {
+            position += LineSections.SECTION_POSITION_GAP;
+            entityManager.persist(Section.builder()
+                    .line(line)
+                    .upStation(stationOf(row.getUpStationName(), row, stationIds))
+                    .downStation(stationOf(row.getDownStationName(), row, stationIds))
+                    .distance(row.getDistance())
+                    .position(position)
+                    .build());
+        }
+        return sections.size();
+    }
+
+    private void validateChain(final List<SectionRow> sections) {
+        Set<String> stationNames = new HashSet<>();
+        stationNames.add(sections.get(0).getUpStationName());
+        String previousDownStationName = sections.get(0).getUpStationName();
+        for (SectionRow row : sections) {
+            if (!row.getUpStationName().equals(previousDownStationName)) {
+                throw new IllegalArgumentException(row.getLineNumber() + "번째 줄의 구간이 앞 구간과 이어지지 않습니다.");
+            }
+            if (!stationNames.add(row.getDownStationName())) {
+                throw new IllegalArgumentException(row.getLineNumber() + "번째 줄의 하행역이 노선에 이미 있습니다.");
+            }
+            previousDownStationName = row.getDownStationName();
+        }
+    }
+
+    private Station stationOf(final String name, final SectionRow row, final Map<String, Long> stationIds) {
+        Long id = stationIds.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException(row.getLineNumber() + "번째 줄의 역을 찾을 수 없습니다: " + name);
+        }
+        return entityManager.getReference(Station.class, id);
+    }
+}
@@ -0,0 +1,35 @@
+package subway.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * --subway.import.dir=/path/to/dump 로 실행하면 기동 직후 그 디렉터리의 stations.csv 와 sections.csv 를 들여온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "subway.import.dir")
+public class NetworkImportRunner implements ApplicationRunner {
+
+    private final NetworkCsvImporter networkCsvImporter;
+
+    @Value("${subway.import.dir}")
+    private String importDir;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path dir = Paths.get(importDir);
+        ImportResult result = networkCsvImporter.importFrom(dir.resolve("stations.csv"), dir.resolve("sections.csv"));
+        log.info("[import] {}: {} stations, {} lines, {} sections",
+                dir, result.getStations(), result.getLines(), result.getSections());
+    }
+}
@@ -0,0 +1,52 @@
+package subway.importer;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * sections.csv 의 한 행. 노선 이름, 노선 색, 상행역 이름, 하행역 이름, 거리 순서로 쓴다.
+ */
+@Getter
+class SectionRow {
+
+    private static final int COLUMNS = 5;
+    private static final long MIN_DISTANCE = 1L;
+
+    private final long lineNumber;
+    private final String lineName;
+    private final String lineColor;
+    private final String upStationName;
+    private final String downStationName;
+    private final long distance;
+
+    private SectionRow(final long lineNumber, final List<String> columns) {
+        this.lineNumber = lineNumber;
+        this.lineName = columns.get(0).trim();
+        this.lineColor = columns.get(1).trim();
+        this.upStationName = columns.get(2).trim();
+        this.downStationName = columns.get(3).trim();
+        this.distance = parseDistance(lineNumber, columns.get(4).trim());
+    }
+
+    private static long parseDistance(final long lineNumber, final String value) {
+        long distance;
+        try {
+            distance = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 거리는 숫자여야 합니다: " + value);
+        }
+        if (distance < MIN_DISTANCE) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 거리는 " + MIN_DISTANCE + " 이상이어야 합니다: " + value);
+        }
+        return distance;
+    }
+
+    static SectionRow parse(final long lineNumber, final String line) {
+        List<String> columns = CsvLine.split(lineNumber, line);
+        if (columns.size() != COLUMNS) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 구간은 " + COLUMNS + "개 항목이어야 합니다: " + line);
+        }
+        return new SectionRow(lineNumber, columns);
+    }
+}
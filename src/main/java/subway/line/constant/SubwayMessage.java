@@ -12,7 +12,18 @@ public enum SubwayMessage {
     DOWN_STATION_NOT_MATCH_WITH_UP_STATION(1002L, "기존 노선의 하행역과 추가 하고자 하는 상행역이 일치하지 않습니다."),
     ADD_SECTION_STATION_DUPLICATION_VALID_MESSAGE(1003L, "기존 노선에 등록된 역은 추가 하고자 하는 구간의 역이 될 수 없습니다."),
     LINE_NOT_FOUND_MESSAGE(1004L, "존재하지 않는 노선 입니다."),
-    STATION_NOT_FOUND_MESSAGE(2000L, "존재하지 않는 역 입니다");
+    LINE_CONCURRENT_MODIFICATION_MESSAGE(1005L, "다른 요청이 노선을 수정하고 있습니다. 잠시 후 다시 시도해 주세요."),
+    LINE_BATCH_SIZE_VALID_MESSAGE(1006L, "한 번에 조회할 노선은 1개 이상 %d개 이하여야 합니다."),
+    SECTION_BATCH_EMPTY_MESSAGE(1007L, "한 번에 추가할 구간이 최소 1개 이상 필요합니다."),
+    SECTION_BATCH_SIZE_VALID_MESSAGE(1008L, "한 번에 추가할 구간은 %d개 이하여야 합니다."),
+    SECTION_FIELDS_REQUIRED_MESSAGE(1009L, "구간의 상행역, 하행역, 거리는 반드시 지정해야 합니다."),
+    STATION_NOT_FOUND_MESSAGE(2000L, "존재하지 않는 역 입니다"),
+    STATION_BATCH_EMPTY_MESSAGE(2001L, "한 번에 생성할 역 이름이 최소 1개 이상 필요합니다."),
+    STATION_PAGE_LIMIT_VALID_MESSAGE(2002L, "한 번에 조회할 역은 1개 이상 %d개 이하여야 합니다."),
+    STATION_NAME_VALID_MESSAGE(2003L, "역 이름은 공백이 아닌 %d자 이하의 값이어야 합니다."),
+    STATION_BATCH_SIZE_VALID_MESSAGE(2004L, "한 번에 생성할 역은 %d개 이하여야 합니다."),
+    PATH_SOURCE_TARGET_DUPLICATION_MESSAGE(3000L, "출발역과 도착역은 같을 수 없습니다."),
+    PATH_NOT_CONNECTED_MESSAGE(3001L, "출발역과 도착역이 연결되어 있지 않습니다.");
 
     private final long code;
     private final String message;
@@ -1,6 +1,7 @@
 package subway.line.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,16 +9,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.line.dto.LineBatchResponse;
 import subway.line.dto.LineCreateRequest;
 import subway.line.dto.LineModifyRequest;
 import subway.line.dto.LineResponse;
+import subway.line.dto.SectionBatchRequest;
 import subway.line.dto.SectionCreateRequest;
 import subway.line.dto.SectionDeleteRequest;
 import subway.line.service.LineComponent;
 import subway.line.service.LineService;
+import subway.stream.JsonArrayStreamer;
 
 import java.net.URI;
 import java.util.List;
@@ -29,6 +36,7 @@ public class LineController {
 
     private final LineService lineService;
     private final LineComponent lineComponent;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping
     public ResponseEntity<LineResponse> createLine(@RequestBody LineCreateRequest lineRequest) {
@@ -37,13 +45,35 @@ public class LineController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LineResponse>> retrieveLines() {
-        return ResponseEntity.ok().body(lineService.findAllLines());
+    public ResponseEntity<byte[]> retrieveLines(WebRequest webRequest,
+                                                @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (webRequest.checkNotModified(lineService.findAllLinesETag())) {
+            return null;
+        }
+        return lineService.findAllLinesEncoded().toResponseEntity(acceptEncoding);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<LineBatchResponse> retrieveLinesByIds(@RequestParam(name = "ids") List<Long> ids) {
+        return ResponseEntity.ok(lineService.findLinesByIds(ids));
+    }
+
+    @GetMapping(params = {"stream=true", "!ids"})
+    public ResponseEntity<StreamingResponseBody> streamLines(WebRequest webRequest) {
+        if (webRequest.checkNotModified(lineService.findAllLinesETag())) {
+            return null;
+        }
+        return jsonArrayStreamer.stream(lineService.findAllLines());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LineResponse> retrieveLine(@PathVariable Long id) {
-        return ResponseEntity.ok().body(lineService.findLineResponseById(id));
+    public ResponseEntity<byte[]> retrieveLine(@PathVariable Long id,
+                                               WebRequest webRequest,
+                                               @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (webRequest.checkNotModified(lineService.findLineETagById(id))) {
+            return null;
+        }
+        return lineService.findLineEncodedById(id).toResponseEntity(acceptEncoding);
     }
 
     @PutMapping("/{id}")
@@ -65,6 +95,12 @@ public class LineController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/{id}/sections/batch")
+    public ResponseEntity<Void> appendSections(@PathVariable(name = "id") Long lineId, @RequestBody SectionBatchRequest request) {
+        lineComponent.appendSections(lineId, request);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{id}/sections")
     public ResponseEntity<Void> deleteSection(@PathVariable(name = "id") Long lineId, @RequestParam(name = "stationId") Long stationId) {
         SectionDeleteRequest request = SectionDeleteRequest.builder()
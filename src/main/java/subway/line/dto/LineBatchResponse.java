@@ -0,0 +1,16 @@
+package subway.line.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 노선을 한 번에 조회한 결과. 노선은 요청한 id 순서대로 담고, 찾지 못한 id 는 따로 알려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class LineBatchResponse {
+    private final List<LineResponse> lines;
+    private final List<Long> missingIds;
+}
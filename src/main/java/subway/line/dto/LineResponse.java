@@ -1,5 +1,6 @@
 package subway.line.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import subway.line.model.Line;
@@ -7,7 +8,11 @@ import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
 import subway.station.model.Station;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Getter
@@ -21,6 +26,32 @@ public class LineResponse {
 
     private List<StationResponse> stations;
 
+    @JsonIgnore
+    private Long version;
+
+    /**
+     * 프로젝션으로 읽은 노선과 구간 행으로 응답을 만든다. 구간 행은 구간 순서대로 정렬되어 있어야 한다.
+     */
+    public static LineResponse of(LineSummary line, List<SectionStationRow> sections) {
+        Set<Long> stationIds = new HashSet<>();
+        List<StationResponse> stationResponses = new ArrayList<>(sections.size() + 1);
+        for (SectionStationRow section : sections) {
+            if (stationIds.add(section.getUpStationId())) {
+                stationResponses.add(new StationResponse(section.getUpStationId(), section.getUpStationName()));
+            }
+            if (stationIds.add(section.getDownStationId())) {
+                stationResponses.add(new StationResponse(section.getDownStationId(), section.getDownStationName()));
+            }
+        }
+        return LineResponse.builder()
+                .id(line.getId())
+                .name(line.getName())
+                .color(line.getColor())
+                .stations(Collections.unmodifiableList(stationResponses))
+                .version(line.getVersion())
+                .build();
+    }
+
     public static LineResponse from(Line line) {
         List<Station> stationsInSections = line.getStationsInSections();
         List<StationResponse> stationResponses = stationsInSections.stream()
@@ -30,7 +61,8 @@ public class LineResponse {
                 .id(line.getId())
                 .name(line.getName())
                 .color(line.getColor())
-                .stations(stationResponses)
+                .stations(Collections.unmodifiableList(stationResponses))
+                .version(line.getVersion())
                 .build();
     }
 }
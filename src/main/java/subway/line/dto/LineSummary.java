@@ -0,0 +1,16 @@
+package subway.line.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 노선 조회용 프로젝션. 영속성 컨텍스트를 거치지 않고 노선 컬럼만 바로 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class LineSummary {
+    private final Long id;
+    private final String name;
+    private final String color;
+    private final Long version;
+}
@@ -0,0 +1,11 @@
+package subway.line.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SectionBatchRequest {
+
+    private List<SectionCreateRequest> sections;
+}
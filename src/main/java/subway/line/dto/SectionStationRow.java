@@ -0,0 +1,17 @@
+package subway.line.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 구간 하나의 상행역과 하행역을 이름까지 한 행으로 읽는 프로젝션.
+ */
+@Getter
+@AllArgsConstructor
+public class SectionStationRow {
+    private final Long lineId;
+    private final Long upStationId;
+    private final String upStationName;
+    private final Long downStationId;
+    private final String downStationName;
+}
@@ -14,6 +14,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Version;
 import java.util.List;
 
 @Getter
@@ -43,6 +44,9 @@ public class Line {
     @JoinColumn
     private Station downStation;
 
+    @Version
+    private Long version;
+
     @Builder.Default
     @Embedded
     private LineSections lineSections = new LineSections();
@@ -57,6 +61,10 @@ public class Line {
         this.downStation = section.getDownStation();
     }
 
+    public void addSections(List<Section> sections) {
+        sections.forEach(this::addSection);
+    }
+
     public List<Station> getStationsInSections() {
         return lineSections.getDownStations();
     }
@@ -8,31 +8,57 @@ import subway.station.model.Station;
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Set;
 
 @Embeddable
 @NoArgsConstructor
 public class LineSections {
 
     private static final long MINIMAL_SECTION_SIZE = 2L;
+    public static final long SECTION_POSITION_GAP = 1024L;
 
+    @OrderBy("position ASC")
     @OneToMany(mappedBy = "line", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<Section> sections = new ArrayList<>();
 
+    /**
+     * 구간 순서대로 중복 없이 나열한 역 목록과 역 id 색인. 영속 상태가 아니므로 처음 사용할 때 구간으로부터 만들고,
+     * 이후에는 구간을 추가하거나 삭제할 때 함께 갱신한다.
+     */
+    @Transient
+    private List<Station> stations;
+
+    @Transient
+    private List<Station> stationsView;
+
+    @Transient
+    private Set<Long> stationIds;
+
     public void add(Section section, Line line) {
         if (line.getLineSections().sections.size() > 1) {
             validUpStationInNewSectionIsDownStationInExistLine(section, line);
-            validDownStationInNewSectionIsNotDuplicatedInExistLine(section, line);
+            validDownStationInNewSectionIsNotDuplicatedInExistLine(section);
         }
         section.setLine(line);
+        section.setPosition(nextPosition());
         this.sections.add(section);
+        indexStationsOf(section);
     }
 
     public List<Station> getDownStations() {
-        return this.sections.stream().flatMap(section -> Stream.of(section.getUpStation(), section.getDownStation())).collect(Collectors.toList());
+        ensureStationIndex();
+        return this.stationsView;
+    }
+
+    public boolean containsStation(Station station) {
+        ensureStationIndex();
+        return this.stationIds.contains(station.getId());
     }
 
     public int getStationsCount() {
@@ -54,7 +80,16 @@ public class LineSections {
     }
 
     public void remove(Section section) {
-        sections.remove(section);
+        boolean isLastSection = !sections.isEmpty() && getLastSection() == section;
+        if (!sections.remove(section)) {
+            return;
+        }
+        if (isLastSection && stations != null && isChainedToRemainingSections(section)) {
+            Station removedStation = stations.remove(stations.size() - 1);
+            stationIds.remove(removedStation.getId());
+            return;
+        }
+        invalidateStationIndex();
     }
 
     private void validUpStationInNewSectionIsDownStationInExistLine(Section section, Line line) {
@@ -63,14 +98,10 @@ public class LineSections {
         }
     }
 
-    private void validDownStationInNewSectionIsNotDuplicatedInExistLine(Section section, Line line) {
-        List<Station> stationsInLine = line.getStationsInSections();
-        stationsInLine.stream()
-                .filter(s -> s.equals(section.getDownStation()))
-                .findAny()
-                .ifPresent(e -> {
-                    throw new SubwayBadRequestException(SubwayMessage.ADD_SECTION_STATION_DUPLICATION_VALID_MESSAGE);
-                });
+    private void validDownStationInNewSectionIsNotDuplicatedInExistLine(Section section) {
+        if (containsStation(section.getDownStation())) {
+            throw new SubwayBadRequestException(SubwayMessage.ADD_SECTION_STATION_DUPLICATION_VALID_MESSAGE);
+        }
     }
 
     private void validStationsCountIsOverMinimalSectionSize() {
@@ -94,8 +125,63 @@ public class LineSections {
         }
     }
 
+    /**
+     * 구간은 position 순으로 읽혀 있으므로 마지막 원소가 꼬리 구간이다. 꼬리를 찾으려고 따로 조회하지 않고,
+     * 검증과 삭제에 이미 필요한 구간 목록을 그대로 쓴다.
+     */
     private Section getLastSection() {
         int lastSectionIndex = this.sections.size() - 1;
         return this.sections.get(lastSectionIndex);
     }
+
+    private long nextPosition() {
+        if (this.sections.isEmpty()) {
+            return SECTION_POSITION_GAP;
+        }
+        return getLastSection().getPosition() + SECTION_POSITION_GAP;
+    }
+
+    private boolean isChainedToRemainingSections(Section removedSection) {
+        if (sections.isEmpty()) {
+            return false;
+        }
+        Station lastStation = stations.get(stations.size() - 1);
+        return lastStation.getId().equals(removedSection.getDownStation().getId())
+                && getLastSection().getDownStation().getId().equals(removedSection.getUpStation().getId());
+    }
+
+    private void ensureStationIndex() {
+        if (this.stations != null) {
+            return;
+        }
+        this.stations = new ArrayList<>(this.sections.size() + 1);
+        this.stationsView = Collections.unmodifiableList(this.stations);
+        this.stationIds = new HashSet<>();
+        this.sections.forEach(this::appendStationsOf);
+    }
+
+    private void indexStationsOf(Section section) {
+        if (this.stations == null) {
+            ensureStationIndex();
+            return;
+        }
+        appendStationsOf(section);
+    }
+
+    private void appendStationsOf(Section section) {
+        appendStation(section.getUpStation());
+        appendStation(section.getDownStation());
+    }
+
+    private void appendStation(Station station) {
+        if (this.stationIds.add(station.getId())) {
+            this.stations.add(station);
+        }
+    }
+
+    private void invalidateStationIndex() {
+        this.stations = null;
+        this.stationsView = null;
+        this.stationIds = null;
+    }
 }
@@ -13,17 +13,26 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 
 @Getter
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_section_line_position", columnList = "line_id, position"),
+        @Index(name = "idx_section_up_station", columnList = "up_station_id"),
+        @Index(name = "idx_section_down_station", columnList = "down_station_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Section {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq")
+    @SequenceGenerator(name = "section_seq", sequenceName = "section_seq", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -41,4 +50,11 @@ public class Section {
 
     @Column(nullable = false)
     private Long distance;
+
+    /**
+     * 노선 안에서 구간의 순서. 값 사이에 간격을 두어 구간이 끼어들어도 다른 행의 순서를 바꾸지 않는다.
+     */
+    @Setter
+    @Column(nullable = false)
+    private Long position;
 }
@@ -1,7 +1,45 @@
 package subway.line.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import subway.line.dto.LineSummary;
+import subway.line.dto.SectionStationRow;
 import subway.line.model.Line;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
 public interface LineRepository extends JpaRepository<Line, Long> {
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.upStation " +
+            "left join fetch l.downStation " +
+            "left join fetch l.lineSections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "order by l.id, s.position")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Line> findAllWithSections();
+
+    @Query("select new subway.line.dto.LineSummary(l.id, l.name, l.color, l.version) from Line l order by l.id")
+    List<LineSummary> findAllSummaries();
+
+    @Query("select new subway.line.dto.LineSummary(l.id, l.name, l.color, l.version) from Line l where l.id = :id")
+    Optional<LineSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("select new subway.line.dto.SectionStationRow(s.line.id, us.id, us.name, ds.id, ds.name) " +
+            "from Section s join s.upStation us join s.downStation ds " +
+            "order by s.line.id, s.position")
+    List<SectionStationRow> findAllSectionStationRows();
+
+    @Query("select new subway.line.dto.SectionStationRow(s.line.id, us.id, us.name, ds.id, ds.name) " +
+            "from Section s join s.upStation us join s.downStation ds " +
+            "where s.line.id = :lineId " +
+            "order by s.position")
+    List<SectionStationRow> findSectionStationRowsByLineId(@Param("lineId") Long lineId);
 }
@@ -1,24 +1,44 @@
 package subway.line.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import subway.exception.SubwayBadRequestException;
+import subway.line.constant.SubwayMessage;
 import subway.line.dto.LineCreateRequest;
 import subway.line.dto.LineResponse;
+import subway.line.dto.SectionBatchRequest;
 import subway.line.dto.SectionCreateRequest;
 import subway.line.dto.SectionDeleteRequest;
 import subway.line.model.Line;
 import subway.line.model.Section;
+import subway.lock.LineWriteLock;
+import subway.network.LineChangedEvent;
+import subway.retry.OptimisticRetry;
 import subway.station.model.Station;
 import subway.station.service.StationService;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Component
 @RequiredArgsConstructor
 public class LineComponent {
 
+    private static final String TIMER_NAME = "subway.line.component";
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final LineService lineService;
     private final StationService stationService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Timed(value = TIMER_NAME, percentiles = {0.5, 0.99, 0.999})
     @Transactional
     public LineResponse createLine(LineCreateRequest lineRequest) {
         Station upStation = stationService.findStationById(lineRequest.getUpStationId());
@@ -30,9 +50,13 @@ public class LineComponent {
                 .distance(lineRequest.getDistance())
                 .build();
         line.addSection(section);
+        eventPublisher.publishEvent(new LineChangedEvent(line.getId()));
         return LineResponse.from(line);
     }
 
+    @Timed(value = TIMER_NAME, percentiles = {0.5, 0.99, 0.999})
+    @OptimisticRetry
+    @LineWriteLock("#lineId")
     @Transactional
     public void appendSection(final Long lineId, SectionCreateRequest request) {
         Station upStation = stationService.findStationById(request.getUpStationId());
@@ -44,12 +68,70 @@ public class LineComponent {
                 .distance(request.getDistance())
                 .build();
         foundLine.addSection(section);
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
+    }
+
+    /**
+     * 이어진 구간 목록을 한 트랜잭션에서 차례대로 추가한다. 구간끼리 이어지는지는 역을 읽기 전에 먼저 확인하고,
+     * 필요한 역은 한 번에 읽는다.
+     */
+    @Timed(value = TIMER_NAME, percentiles = {0.5, 0.99, 0.999})
+    @OptimisticRetry
+    @LineWriteLock("#lineId")
+    @Transactional
+    public void appendSections(final Long lineId, SectionBatchRequest request) {
+        List<SectionCreateRequest> sectionRequests = request.getSections();
+        if (sectionRequests == null || sectionRequests.isEmpty()) {
+            throw new SubwayBadRequestException(SubwayMessage.SECTION_BATCH_EMPTY_MESSAGE);
+        }
+        if (sectionRequests.size() > MAX_BATCH_SIZE) {
+            throw new SubwayBadRequestException(SubwayMessage.SECTION_BATCH_SIZE_VALID_MESSAGE.getCode(),
+                    SubwayMessage.SECTION_BATCH_SIZE_VALID_MESSAGE.getFormatMessage(MAX_BATCH_SIZE));
+        }
+        validateChain(sectionRequests);
+        Map<Long, Station> stations = stationService.findStationsByIds(sectionRequests.stream()
+                .flatMap(section -> Stream.of(section.getUpStationId(), section.getDownStationId()))
+                .collect(Collectors.toSet()));
+        Line foundLine = lineService.findLineById(lineId);
+        foundLine.addSections(sectionRequests.stream()
+                .map(section -> Section.builder()
+                        .upStation(stations.get(section.getUpStationId()))
+                        .downStation(stations.get(section.getDownStationId()))
+                        .distance(section.getDistance())
+                        .build())
+                .collect(Collectors.toList()));
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
     }
 
+    @Timed(value = TIMER_NAME, percentiles = {0.5, 0.99, 0.999})
+    @OptimisticRetry
+    @LineWriteLock("#request.lineId")
     @Transactional
     public void deleteSectionByStationId(SectionDeleteRequest request) {
         Line line = lineService.findLineById(request.getLineId());
         Station station = stationService.findStationById(request.getStationId());
         line.deleteSectionByStation(station);
+        eventPublisher.publishEvent(new LineChangedEvent(line.getId()));
+    }
+
+    private void validateChain(List<SectionCreateRequest> sectionRequests) {
+        for (SectionCreateRequest section : sectionRequests) {
+            if (section == null || section.getUpStationId() == null || section.getDownStationId() == null
+                    || section.getDistance() == null) {
+                throw new SubwayBadRequestException(SubwayMessage.SECTION_FIELDS_REQUIRED_MESSAGE);
+            }
+        }
+        Set<Long> stationIds = new HashSet<>();
+        stationIds.add(sectionRequests.get(0).getUpStationId());
+        Long previousDownStationId = sectionRequests.get(0).getUpStationId();
+        for (SectionCreateRequest section : sectionRequests) {
+            if (!section.getUpStationId().equals(previousDownStationId)) {
+                throw new SubwayBadRequestException(SubwayMessage.DOWN_STATION_NOT_MATCH_WITH_UP_STATION);
+            }
+            if (!stationIds.add(section.getDownStationId())) {
+                throw new SubwayBadRequestException(SubwayMessage.ADD_SECTION_STATION_DUPLICATION_VALID_MESSAGE);
+            }
+            previousDownStationId = section.getDownStationId();
+        }
     }
 }
@@ -1,19 +1,31 @@
 package subway.line.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import subway.cache.EncodedResponse;
+import subway.cache.ResponseBytesCache;
+import subway.exception.SubwayBadRequestException;
 import subway.exception.SubwayNotFoundException;
 import subway.line.constant.SubwayMessage;
+import subway.line.dto.LineBatchResponse;
 import subway.line.dto.LineCreateRequest;
 import subway.line.dto.LineModifyRequest;
 import subway.line.dto.LineResponse;
 import subway.line.model.Line;
 import subway.line.repository.LineRepository;
+import subway.lock.LineWriteLock;
+import subway.network.LineChangedEvent;
+import subway.network.NetworkSnapshot;
+import subway.network.NetworkSnapshotHolder;
+import subway.retry.OptimisticRetry;
 import subway.station.model.Station;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 
 @Service
@@ -21,8 +33,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LineService {
 
+    public static final int MAX_BATCH_SIZE = 100;
 
     private final LineRepository lineRepository;
+    private final NetworkSnapshotHolder networkSnapshotHolder;
+    private final ResponseBytesCache responseBytesCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Line saveLine(LineCreateRequest createRequest,
@@ -37,22 +53,64 @@ public class LineService {
         return lineRepository.save(line);
     }
 
+    @OptimisticRetry
+    @LineWriteLock("#id")
     @Transactional
     public void updateLine(Long id, LineModifyRequest request) {
         Line line = this.findLineById(id);
         line.updateLine(request.getName(), request.getColor());
+        eventPublisher.publishEvent(new LineChangedEvent(id));
     }
 
     public List<LineResponse> findAllLines() {
-        return lineRepository.findAll().stream()
-                .map(LineResponse::from)
-                .collect(Collectors.toList());
+        return networkSnapshotHolder.current().getLines();
     }
 
     public LineResponse findLineResponseById(Long id) {
-        return lineRepository.findById(id)
-                .map(LineResponse::from)
+        return networkSnapshotHolder.current().findLine(id)
+                .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.LINE_NOT_FOUND_MESSAGE));
+    }
+
+    /**
+     * 같은 스냅샷에서 요청한 노선을 모두 찾는다. 중복된 id 는 한 번만 담는다.
+     */
+    public LineBatchResponse findLinesByIds(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new SubwayBadRequestException(SubwayMessage.LINE_BATCH_SIZE_VALID_MESSAGE.getCode(),
+                    SubwayMessage.LINE_BATCH_SIZE_VALID_MESSAGE.getFormatMessage(MAX_BATCH_SIZE));
+        }
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        List<LineResponse> lines = new ArrayList<>(distinctIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            snapshot.findLine(id).ifPresentOrElse(lines::add, () -> missingIds.add(id));
+        }
+        return new LineBatchResponse(lines, missingIds);
+    }
+
+    public String findAllLinesETag() {
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        return EncodedResponse.weakETag("lines-" + snapshot.getEpoch() + "-" + snapshot.getVersion());
+    }
+
+    public String findLineETagById(Long id) {
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        LineResponse line = snapshot.findLine(id)
                 .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.LINE_NOT_FOUND_MESSAGE));
+        return EncodedResponse.weakETag("line-" + snapshot.getEpoch() + "-" + line.getId() + "-" + line.getVersion());
+    }
+
+    public EncodedResponse findAllLinesEncoded() {
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        return responseBytesCache.get("lines", snapshot.getVersion(), snapshot::getLines);
+    }
+
+    public EncodedResponse findLineEncodedById(Long id) {
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        LineResponse line = snapshot.findLine(id)
+                .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.LINE_NOT_FOUND_MESSAGE));
+        return responseBytesCache.get("line:" + id, snapshot.getVersion(), () -> line);
     }
 
     public Line findLineById(Long id) {
@@ -60,10 +118,12 @@ public class LineService {
                 .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.LINE_NOT_FOUND_MESSAGE));
     }
 
+    @OptimisticRetry
+    @LineWriteLock("#id")
     @Transactional
     public void deleteLineById(Long id) {
-        lineRepository.findById(id)
-                .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.LINE_NOT_FOUND_MESSAGE));
-        lineRepository.deleteById(id);
+        Line line = this.findLineById(id);
+        lineRepository.delete(line);
+        eventPublisher.publishEvent(LineChangedEvent.deleted(id, line.getVersion()));
     }
 }
@@ -0,0 +1,31 @@
+package subway.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노선 id 를 고정된 수의 공정(fair) 락 중 하나에 대응시킨다. 노선 수와 관계없이 락 개수는 일정하고,
+ * 같은 노선의 쓰기는 도착한 순서대로 기다린다.
+ */
+@Component
+public class LineLockStripes {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public LineLockStripes(@Value("${subway.line-lock.stripes:64}") int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock(true);
+        }
+    }
+
+    public ReentrantLock lockFor(final Long lineId) {
+        int hash = Long.hashCode(lineId);
+        return locks[(hash ^ (hash >>> 16)) & mask];
+    }
+}
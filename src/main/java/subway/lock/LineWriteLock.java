@@ -0,0 +1,16 @@
+package subway.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 노선에 대한 쓰기를 트랜잭션 바깥에서 순서대로 실행한다. value 는 노선 id 를 구하는 SpEL 식이다.
+ * 예) {@code @LineWriteLock("#lineId")}, {@code @LineWriteLock("#request.lineId")}
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LineWriteLock {
+    String value();
+}
@@ -0,0 +1,54 @@
+package subway.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 트랜잭션보다 바깥에서 락을 잡아, 앞선 쓰기가 커밋된 뒤에 다음 쓰기가 노선을 읽도록 한다.
+ * 낙관적 락 재시도보다는 안쪽에 있어 재시도 대기 중에는 락을 잡고 있지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class LineWriteLockAspect {
+
+    private final LineLockStripes lineLockStripes;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(lineWriteLock)")
+    public Object lock(ProceedingJoinPoint joinPoint, LineWriteLock lineWriteLock) throws Throwable {
+        ReentrantLock lock = lineLockStripes.lockFor(lineIdOf(joinPoint, lineWriteLock));
+        lock.lock();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Long lineIdOf(ProceedingJoinPoint joinPoint, LineWriteLock lineWriteLock) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNameDiscoverer);
+        return expressions.computeIfAbsent(lineWriteLock.value(), parser::parseExpression)
+                .getValue(context, Long.class);
+    }
+}
@@ -0,0 +1,50 @@
+package subway.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청/응답 전문을 남길 접근 로그를 고른다.
+ * 응답 상태가 errorStatusThreshold 이상이면 항상 남기고, 그 외에는 sampleRate 건마다 한 건만 남긴다.
+ * sampleRate 가 0 이면 오류 응답만 남긴다.
+ */
+public class AccessLogSamplingFilter extends Filter<IAccessEvent> {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private int errorStatusThreshold = 400;
+    private long sampleRate = 0L;
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (!isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (event.getStatusCode() >= errorStatusThreshold) {
+            return FilterReply.NEUTRAL;
+        }
+        if (sampleRate > 0 && sequence.incrementAndGet() % sampleRate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    public void setErrorStatusThreshold(int errorStatusThreshold) {
+        this.errorStatusThreshold = errorStatusThreshold;
+    }
+
+    public void setSampleRate(long sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void start() {
+        if (sampleRate < 0) {
+            addError("sampleRate must not be negative: " + sampleRate);
+            return;
+        }
+        super.start();
+    }
+}
@@ -0,0 +1,16 @@
+package subway.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+/**
+ * 접근 로그를 고정 크기 큐에 넣고 별도 스레드에서 출력한다.
+ * 요청 스레드가 끝난 뒤에도 요청/응답 값을 읽을 수 있도록 큐에 넣기 전에 필요한 값을 복사해 둔다.
+ */
+public class AsyncAccessAppender extends AsyncAppenderBase<IAccessEvent> {
+
+    @Override
+    protected void preprocess(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
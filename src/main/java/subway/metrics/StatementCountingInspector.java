@@ -0,0 +1,25 @@
+package subway.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 수를 스레드별로 센다. 요청 단위로 초기화하고 읽어서 요청당 쿼리 수를 기록한다.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private final ThreadLocal<long[]> counter = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        counter.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        counter.get()[0] = 0L;
+    }
+
+    public long count() {
+        return counter.get()[0];
+    }
+}
@@ -0,0 +1,27 @@
+package subway.network;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 노선이 바뀌었음을 알린다. 삭제였다면 삭제할 때의 노선 버전을 함께 실어, 삭제 전에 읽은 노선이 늦게 반영되지 않게 한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LineChangedEvent {
+    private final Long lineId;
+    private final Long deletedVersion;
+
+    public LineChangedEvent(final Long lineId) {
+        this(lineId, null);
+    }
+
+    public static LineChangedEvent deleted(final Long lineId, final Long version) {
+        return new LineChangedEvent(lineId, version);
+    }
+
+    public boolean isDeleted() {
+        return deletedVersion != null;
+    }
+}
@@ -0,0 +1,7 @@
+package subway.network;
+
+/**
+ * 노선도 전체를 한꺼번에 들여온 뒤 발행한다. 받는 쪽은 바뀐 대상을 골라내지 않고 전체를 다시 읽는다.
+ */
+public class NetworkImportedEvent {
+}
@@ -0,0 +1,162 @@
+package subway.network;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import subway.line.dto.LineResponse;
+import subway.station.dto.StationPage;
+import subway.station.dto.StationResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 읽기 전용 노선도 스냅샷. 한 번 만들어진 스냅샷은 변경되지 않으며,
+ * 변경이 필요하면 복사본을 만들어 새 버전으로 교체한다.
+ * 버전은 재시작하면 다시 0 부터 시작하므로, 버전을 외부에 노출할 때는 스냅샷을 처음 만든 시각(epoch)과 함께 쓴다.
+ */
+@Getter
+public class NetworkSnapshot {
+
+    private final long epoch;
+    private final long version;
+    private final List<StationResponse> stations;
+    private final List<LineResponse> lines;
+
+    private final SortedMap<Long, StationResponse> stationsById;
+    private final SortedMap<Long, LineResponse> linesById;
+
+    /**
+     * 삭제한 노선의 id 와 삭제할 때의 노선 버전. 삭제 전에 읽은 노선이 늦게 들어와도 되살리지 않는다.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, Long> deletedLineVersions;
+
+    /**
+     * 바뀌지 않은 맵과 목록은 이전 스냅샷의 것을 그대로 넘겨 받아, 한쪽만 바뀌는 변경이 다른 쪽을 복사하지 않게 한다.
+     */
+    private NetworkSnapshot(final long epoch,
+                            final long version,
+                            final SortedMap<Long, StationResponse> stationsById,
+                            final List<StationResponse> stations,
+                            final SortedMap<Long, LineResponse> linesById,
+                            final List<LineResponse> lines,
+                            final Map<Long, Long> deletedLineVersions) {
+        this.epoch = epoch;
+        this.version = version;
+        this.stationsById = stationsById;
+        this.stations = stations;
+        this.linesById = linesById;
+        this.lines = lines;
+        this.deletedLineVersions = deletedLineVersions;
+    }
+
+    public static NetworkSnapshot empty() {
+        return of(0L, List.of(), List.of());
+    }
+
+    public static NetworkSnapshot of(final long version,
+                                     final Collection<StationResponse> stations,
+                                     final Collection<LineResponse> lines) {
+        SortedMap<Long, StationResponse> stationsById = new TreeMap<>();
+        stations.forEach(station -> stationsById.put(station.getId(), station));
+        SortedMap<Long, LineResponse> linesById = new TreeMap<>();
+        lines.forEach(line -> linesById.put(line.getId(), line));
+        return new NetworkSnapshot(System.currentTimeMillis(), version,
+                frozen(stationsById), valuesOf(stationsById), frozen(linesById), valuesOf(linesById), Map.of());
+    }
+
+    public Optional<LineResponse> findLine(final Long id) {
+        return Optional.ofNullable(linesById.get(id));
+    }
+
+    public Optional<StationResponse> findStation(final Long id) {
+        return Optional.ofNullable(stationsById.get(id));
+    }
+
+    /**
+     * after 보다 id 가 큰 역을 id 순서로 최대 limit 개 돌려준다. after 가 없으면 처음부터 센다.
+     */
+    public StationPage findStationsAfter(final Long after, final int limit) {
+        if (after != null && after == Long.MAX_VALUE) {
+            return new StationPage(List.of(), null);
+        }
+        SortedMap<Long, StationResponse> tail = after == null ? stationsById : stationsById.tailMap(after + 1);
+        List<StationResponse> page = new ArrayList<>(Math.min(limit, tail.size()));
+        for (StationResponse station : tail.values()) {
+            if (page.size() == limit) {
+                return new StationPage(page, page.get(limit - 1).getId());
+            }
+            page.add(station);
+        }
+        return new StationPage(page, null);
+    }
+
+    public NetworkSnapshot withStations(final Collection<StationResponse> upserts, final Collection<Long> removedIds) {
+        SortedMap<Long, StationResponse> copied = new TreeMap<>(stationsById);
+        removedIds.forEach(copied::remove);
+        upserts.forEach(station -> copied.put(station.getId(), station));
+        return new NetworkSnapshot(epoch, version + 1, frozen(copied), valuesOf(copied), linesById, lines, deletedLineVersions);
+    }
+
+    /**
+     * 커밋 순서와 반영 순서가 어긋나 이미 반영된 것보다 오래된 노선이 들어오거나, 삭제할 때보다 새롭지 않은 노선이 들어오면 무시한다.
+     */
+    public NetworkSnapshot withLine(final LineResponse line) {
+        LineResponse current = linesById.get(line.getId());
+        if (current != null && isOlder(line, current)) {
+            return this;
+        }
+        Long deletedVersion = deletedLineVersions.get(line.getId());
+        if (deletedVersion != null && (line.getVersion() == null || line.getVersion() <= deletedVersion)) {
+            return this;
+        }
+        SortedMap<Long, LineResponse> copied = new TreeMap<>(linesById);
+        copied.put(line.getId(), line);
+        return new NetworkSnapshot(epoch, version + 1, stationsById, stations, frozen(copied), valuesOf(copied), deletedLineVersions);
+    }
+
+    /**
+     * 새로 읽은 노선도 전체로 바꾼다. 버전은 이어서 올려, 이전 버전으로 만든 응답 캐시가 다시 쓰이지 않게 한다.
+     * 들여온 노선은 노선 버전이 다시 시작할 수 있으므로 epoch 도 새로 잡는다.
+     * 삭제 기록은 새로 읽은 노선도에 다시 나타난 노선만 지우고 남긴다.
+     */
+    public NetworkSnapshot replacedBy(final NetworkSnapshot loaded) {
+        Map<Long, Long> remainingDeletes = new HashMap<>(deletedLineVersions);
+        remainingDeletes.keySet().removeAll(loaded.linesById.keySet());
+        return new NetworkSnapshot(Math.max(System.currentTimeMillis(), epoch + 1), version + 1,
+                loaded.stationsById, loaded.stations, loaded.linesById, loaded.lines, Map.copyOf(remainingDeletes));
+    }
+
+    /**
+     * 노선을 지우고 삭제할 때의 노선 버전을 남긴다.
+     */
+    public NetworkSnapshot withoutLine(final Long lineId, final Long deletedVersion) {
+        Map<Long, Long> deletes = new HashMap<>(deletedLineVersions);
+        deletes.merge(lineId, deletedVersion, Math::max);
+        if (!linesById.containsKey(lineId)) {
+            return new NetworkSnapshot(epoch, version, stationsById, stations, linesById, lines, Map.copyOf(deletes));
+        }
+        SortedMap<Long, LineResponse> copied = new TreeMap<>(linesById);
+        copied.remove(lineId);
+        return new NetworkSnapshot(epoch, version + 1, stationsById, stations, frozen(copied), valuesOf(copied), Map.copyOf(deletes));
+    }
+
+    private static <T> SortedMap<Long, T> frozen(final SortedMap<Long, T> map) {
+        return Collections.unmodifiableSortedMap(map);
+    }
+
+    private static <T> List<T> valuesOf(final SortedMap<Long, T> map) {
+        return Collections.unmodifiableList(new ArrayList<>(map.values()));
+    }
+
+    private boolean isOlder(final LineResponse line, final LineResponse current) {
+        return line.getVersion() != null && current.getVersion() != null && line.getVersion() < current.getVersion();
+    }
+}
@@ -0,0 +1,33 @@
+package subway.network;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 조회 API 가 사용하는 최신 스냅샷을 보관한다. 조회는 락 없이 참조만 읽고,
+ * 변경은 커밋 이후에 복사본을 만들어 원자적으로 교체한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NetworkSnapshotHolder {
+
+    private final NetworkSnapshotLoader networkSnapshotLoader;
+    private final AtomicReference<NetworkSnapshot> snapshot = new AtomicReference<>(NetworkSnapshot.empty());
+
+    @PostConstruct
+    public void initialize() {
+        snapshot.set(networkSnapshotLoader.loadAll());
+    }
+
+    public NetworkSnapshot current() {
+        return snapshot.get();
+    }
+
+    public NetworkSnapshot update(UnaryOperator<NetworkSnapshot> patch) {
+        return snapshot.updateAndGet(patch);
+    }
+}
@@ -0,0 +1,53 @@
+package subway.network;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import subway.line.dto.LineResponse;
+import subway.line.dto.LineSummary;
+import subway.line.dto.SectionStationRow;
+import subway.line.repository.LineRepository;
+import subway.station.dto.StationResponse;
+import subway.station.repository.StationRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋이 끝난 데이터를 스냅샷으로 읽어온다. 커밋 이후 콜백에서도 호출되므로 항상 새 트랜잭션을 연다.
+ * 엔티티 대신 필요한 컬럼만 프로젝션으로 읽어, 영속성 컨텍스트에 엔티티와 변경 감지용 사본을 남기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+public class NetworkSnapshotLoader {
+
+    private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+
+    public NetworkSnapshot loadAll() {
+        List<StationResponse> stations = stationRepository.findAllResponses();
+        Map<Long, List<SectionStationRow>> sectionsByLine = lineRepository.findAllSectionStationRows().stream()
+                .collect(Collectors.groupingBy(SectionStationRow::getLineId));
+        List<LineResponse> lines = lineRepository.findAllSummaries().stream()
+                .map(line -> LineResponse.of(line, sectionsByLine.getOrDefault(line.getId(), List.of())))
+                .collect(Collectors.toList());
+        return NetworkSnapshot.of(0L, stations, lines);
+    }
+
+    public Optional<LineResponse> loadLine(final Long id) {
+        Optional<LineSummary> line = lineRepository.findSummaryById(id);
+        if (line.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(LineResponse.of(line.get(), lineRepository.findSectionStationRowsByLineId(id)));
+    }
+
+    public List<StationResponse> loadStations(final Collection<Long> ids) {
+        return stationRepository.findResponsesByIdIn(ids);
+    }
+}
@@ -0,0 +1,51 @@
+package subway.network;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.line.dto.LineResponse;
+import subway.station.dto.StationResponse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 노선, 역 변경이 커밋되면 바뀐 대상만 다시 읽어 스냅샷에 반영한다.
+ * 노선을 다시 읽었는데 없으면 그 사이 삭제된 것이므로, 삭제 이벤트가 지우도록 그대로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NetworkSnapshotUpdater {
+
+    private final NetworkSnapshotHolder networkSnapshotHolder;
+    private final NetworkSnapshotLoader networkSnapshotLoader;
+
+    @TransactionalEventListener
+    public void onLineChanged(LineChangedEvent event) {
+        final Long lineId = event.getLineId();
+        if (event.isDeleted()) {
+            networkSnapshotHolder.update(snapshot -> snapshot.withoutLine(lineId, event.getDeletedVersion()));
+            return;
+        }
+        Optional<LineResponse> line = networkSnapshotLoader.loadLine(lineId);
+        line.ifPresent(loaded -> networkSnapshotHolder.update(snapshot -> snapshot.withLine(loaded)));
+    }
+
+    @EventListener
+    public void onNetworkImported(NetworkImportedEvent event) {
+        NetworkSnapshot loaded = networkSnapshotLoader.loadAll();
+        networkSnapshotHolder.update(snapshot -> snapshot.replacedBy(loaded));
+    }
+
+    @TransactionalEventListener
+    public void onStationChanged(StationChangedEvent event) {
+        List<StationResponse> stations = networkSnapshotLoader.loadStations(event.getStationIds());
+        Set<Long> removedIds = new HashSet<>(event.getStationIds());
+        removedIds.removeAll(stations.stream().map(StationResponse::getId).collect(Collectors.toSet()));
+        networkSnapshotHolder.update(snapshot -> snapshot.withStations(stations, removedIds));
+    }
+}
@@ -0,0 +1,16 @@
+package subway.network;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class StationChangedEvent {
+    private final List<Long> stationIds;
+
+    public static StationChangedEvent of(final Long stationId) {
+        return new StationChangedEvent(List.of(stationId));
+    }
+}
@@ -0,0 +1,24 @@
+package subway.path.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import subway.path.dto.PathResponse;
+import subway.path.service.PathService;
+
+@RestController
+@RequestMapping("/paths")
+@RequiredArgsConstructor
+public class PathController {
+
+    private final PathService pathService;
+
+    @GetMapping
+    public ResponseEntity<PathResponse> findPath(@RequestParam(name = "source") Long source,
+                                                 @RequestParam(name = "target") Long target) {
+        return ResponseEntity.ok().body(pathService.findPath(source, target));
+    }
+}
@@ -0,0 +1,16 @@
+package subway.path.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import subway.station.dto.StationResponse;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PathResponse {
+
+    private List<StationResponse> stations;
+
+    private Long distance;
+}
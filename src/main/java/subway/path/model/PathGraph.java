@@ -0,0 +1,370 @@
+package subway.path.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 구간으로 만든 무방향 그래프. 역 id 를 0 부터 시작하는 인덱스로 바꾸고,
+ * 인접 정보를 CSR(offsets / targets / weights) 배열로 보관해 조회 시 객체를 만들지 않는다.
+ */
+public class PathGraph {
+
+    private static final int NO_VERTEX = -1;
+
+    private final long[] stationIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final long[] weights;
+
+    private PathGraph(long[] stationIds, int[] offsets, int[] targets, long[] weights) {
+        this.stationIds = stationIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static PathGraph empty() {
+        return new PathGraph(new long[0], new int[1], new int[0], new long[0]);
+    }
+
+    public static PathGraph of(Collection<SectionEdge> edges) {
+        long[] stationIds = distinctStationIds(edges);
+        int[] degrees = new int[stationIds.length];
+        int[] ups = new int[edges.size()];
+        int[] downs = new int[edges.size()];
+        long[] distances = new long[edges.size()];
+
+        int edgeIndex = 0;
+        for (SectionEdge edge : edges) {
+            ups[edgeIndex] = Arrays.binarySearch(stationIds, edge.getUpStationId());
+            downs[edgeIndex] = Arrays.binarySearch(stationIds, edge.getDownStationId());
+            distances[edgeIndex] = edge.getDistance();
+            degrees[ups[edgeIndex]]++;
+            degrees[downs[edgeIndex]]++;
+            edgeIndex++;
+        }
+
+        int[] offsets = new int[stationIds.length + 1];
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            offsets[vertex + 1] = offsets[vertex] + degrees[vertex];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, stationIds.length);
+        int[] targets = new int[offsets[stationIds.length]];
+        long[] weights = new long[offsets[stationIds.length]];
+        for (int i = 0; i < ups.length; i++) {
+            targets[cursor[ups[i]]] = downs[i];
+            weights[cursor[ups[i]]++] = distances[i];
+            targets[cursor[downs[i]]] = ups[i];
+            weights[cursor[downs[i]]++] = distances[i];
+        }
+        return new PathGraph(stationIds, offsets, targets, weights);
+    }
+
+    /**
+     * removed 간선을 빼고 added 간선을 더한 새 그래프를 만든다. 남는 간선은 기존 배열에서 그대로 옮겨 담으므로
+     * 전체 간선을 다시 모으거나 정렬하지 않는다. 간선이 모두 빠진 역도 정점으로 남지만, 어디로도 이어지지 않으므로 경로 결과는 같다.
+     */
+    public PathGraph withEdgesReplaced(Collection<SectionEdge> removed, Collection<SectionEdge> added) {
+        long[] mergedIds = merge(stationIds, distinctStationIds(added));
+        int[] remap = new int[stationIds.length];
+        for (int vertex = 0, merged = 0; vertex < stationIds.length; vertex++) {
+            while (mergedIds[merged] != stationIds[vertex]) {
+                merged++;
+            }
+            remap[vertex] = merged;
+        }
+
+        Map<Arc, Integer> removals = new HashMap<>();
+        boolean[] affected = new boolean[stationIds.length];
+        for (SectionEdge edge : removed) {
+            int up = indexOf(edge.getUpStationId());
+            int down = indexOf(edge.getDownStationId());
+            if (up == NO_VERTEX || down == NO_VERTEX) {
+                continue;
+            }
+            removals.merge(new Arc(up, down, edge.getDistance()), 1, Integer::sum);
+            removals.merge(new Arc(down, up, edge.getDistance()), 1, Integer::sum);
+            affected[up] = true;
+            affected[down] = true;
+        }
+
+        int[] degrees = new int[mergedIds.length];
+        boolean[] kept = new boolean[targets.length];
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                kept[arc] = !affected[vertex] || !take(removals, new Arc(vertex, targets[arc], weights[arc]));
+                if (kept[arc]) {
+                    degrees[remap[vertex]]++;
+                }
+            }
+        }
+        int[] addedUps = new int[added.size()];
+        int[] addedDowns = new int[added.size()];
+        long[] addedDistances = new long[added.size()];
+        int edgeIndex = 0;
+        for (SectionEdge edge : added) {
+            addedUps[edgeIndex] = Arrays.binarySearch(mergedIds, edge.getUpStationId());
+            addedDowns[edgeIndex] = Arrays.binarySearch(mergedIds, edge.getDownStationId());
+            addedDistances[edgeIndex] = edge.getDistance();
+            degrees[addedUps[edgeIndex]]++;
+            degrees[addedDowns[edgeIndex]]++;
+            edgeIndex++;
+        }
+
+        int[] newOffsets = new int[mergedIds.length + 1];
+        for (int vertex = 0; vertex < mergedIds.length; vertex++) {
+            newOffsets[vertex + 1] = newOffsets[vertex] + degrees[vertex];
+        }
+        int[] cursor = Arrays.copyOf(newOffsets, mergedIds.length);
+        int[] newTargets = new int[newOffsets[mergedIds.length]];
+        long[] newWeights = new long[newOffsets[mergedIds.length]];
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                if (kept[arc]) {
+                    newTargets[cursor[remap[vertex]]] = remap[targets[arc]];
+                    newWeights[cursor[remap[vertex]]++] = weights[arc];
+                }
+            }
+        }
+        for (int i = 0; i < addedUps.length; i++) {
+            newTargets[cursor[addedUps[i]]] = addedDowns[i];
+            newWeights[cursor[addedUps[i]]++] = addedDistances[i];
+            newTargets[cursor[addedDowns[i]]] = addedUps[i];
+            newWeights[cursor[addedDowns[i]]++] = addedDistances[i];
+        }
+        return new PathGraph(mergedIds, newOffsets, newTargets, newWeights);
+    }
+
+    private static boolean take(Map<Arc, Integer> removals, Arc arc) {
+        Integer remaining = removals.get(arc);
+        if (remaining == null) {
+            return false;
+        }
+        if (remaining == 1) {
+            removals.remove(arc);
+        } else {
+            removals.put(arc, remaining - 1);
+        }
+        return true;
+    }
+
+    private static long[] merge(long[] left, long[] right) {
+        long[] merged = new long[left.length + right.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            long next;
+            if (j == right.length || (i < left.length && left[i] <= right[j])) {
+                next = left[i++];
+            } else {
+                next = right[j++];
+            }
+            if (size == 0 || merged[size - 1] != next) {
+                merged[size++] = next;
+            }
+        }
+        return size == left.length ? left : Arrays.copyOf(merged, size);
+    }
+
+    private static long[] distinctStationIds(Collection<SectionEdge> edges) {
+        long[] ids = new long[edges.size() * 2];
+        int size = 0;
+        for (SectionEdge edge : edges) {
+            ids[size++] = edge.getUpStationId();
+            ids[size++] = edge.getDownStationId();
+        }
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    public boolean contains(long stationId) {
+        return indexOf(stationId) >= 0;
+    }
+
+    public int getStationsCount() {
+        return stationIds.length;
+    }
+
+    public Optional<PathResult> findShortestPath(long sourceStationId, long targetStationId) {
+        int source = indexOf(sourceStationId);
+        int target = indexOf(targetStationId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        long[] distances = new long[stationIds.length];
+        int[] previous = new int[stationIds.length];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(previous, NO_VERTEX);
+        distances[source] = 0L;
+
+        IndexedMinHeap heap = new IndexedMinHeap(stationIds.length);
+        heap.push(source, 0L);
+        while (!heap.isEmpty()) {
+            int vertex = heap.pop();
+            if (vertex == target) {
+                break;
+            }
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int next = targets[arc];
+                long candidate = distances[vertex] + weights[arc];
+                if (candidate < distances[next]) {
+                    distances[next] = candidate;
+                    previous[next] = vertex;
+                    heap.pushOrDecrease(next, candidate);
+                }
+            }
+        }
+
+        if (distances[target] == Long.MAX_VALUE) {
+            return Optional.empty();
+        }
+        return Optional.of(new PathResult(walkBack(previous, target), distances[target]));
+    }
+
+    private long[] walkBack(int[] previous, int target) {
+        int length = 0;
+        for (int vertex = target; vertex != NO_VERTEX; vertex = previous[vertex]) {
+            length++;
+        }
+        long[] path = new long[length];
+        for (int vertex = target; vertex != NO_VERTEX; vertex = previous[vertex]) {
+            path[--length] = stationIds[vertex];
+        }
+        return path;
+    }
+
+    private int indexOf(long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index < 0 ? NO_VERTEX : index;
+    }
+
+    /**
+     * 지울 간선을 찾는 열쇠. 같은 두 역 사이에 거리가 같은 간선이 여럿이면 어느 쪽을 지워도 그래프는 같다.
+     */
+    private static class Arc {
+
+        private final int from;
+        private final int to;
+        private final long weight;
+
+        Arc(int from, int to, long weight) {
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Arc)) {
+                return false;
+            }
+            Arc arc = (Arc) o;
+            return from == arc.from && to == arc.to && weight == arc.weight;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to, weight);
+        }
+    }
+
+    /**
+     * 정점 인덱스를 값으로, 거리를 우선순위로 가지는 이진 힙. 정점마다 힙 내 위치를 기억해 decrease-key 를 지원한다.
+     */
+    private static class IndexedMinHeap {
+
+        private final int[] heap;
+        private final long[] keys;
+        private final int[] positions;
+        private int size;
+
+        IndexedMinHeap(int capacity) {
+            this.heap = new int[capacity];
+            this.keys = new long[capacity];
+            this.positions = new int[capacity];
+            Arrays.fill(positions, NO_VERTEX);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int vertex, long key) {
+            keys[vertex] = key;
+            heap[size] = vertex;
+            positions[vertex] = size;
+            siftUp(size++);
+        }
+
+        void pushOrDecrease(int vertex, long key) {
+            if (positions[vertex] == NO_VERTEX) {
+                push(vertex, key);
+                return;
+            }
+            keys[vertex] = key;
+            siftUp(positions[vertex]);
+        }
+
+        int pop() {
+            int top = heap[0];
+            positions[top] = NO_VERTEX;
+            if (--size > 0) {
+                heap[0] = heap[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void siftUp(int index) {
+            int vertex = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[heap[parent]] <= keys[vertex]) {
+                    break;
+                }
+                move(heap[parent], index);
+                index = parent;
+            }
+            move(vertex, index);
+        }
+
+        private void siftDown(int index) {
+            int vertex = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                    child++;
+                }
+                if (keys[vertex] <= keys[heap[child]]) {
+                    break;
+                }
+                move(heap[child], index);
+                index = child;
+            }
+            move(vertex, index);
+        }
+
+        private void move(int vertex, int index) {
+            heap[index] = vertex;
+            positions[vertex] = index;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package subway.path.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PathResult {
+    private final long[] stationIds;
+    private final long distance;
+}
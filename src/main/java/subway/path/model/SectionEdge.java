@@ -0,0 +1,17 @@
+package subway.path.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경로 그래프의 간선. 읽을 당시의 노선 버전을 함께 들고 있어, 늦게 도착한 이전 버전의 구간 목록을 골라낼 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class SectionEdge {
+    private final Long lineId;
+    private final Long lineVersion;
+    private final Long upStationId;
+    private final Long downStationId;
+    private final Long distance;
+}
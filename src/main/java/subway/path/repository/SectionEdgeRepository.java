@@ -0,0 +1,20 @@
+package subway.path.repository;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import subway.line.model.Section;
+import subway.path.model.SectionEdge;
+
+import java.util.List;
+
+public interface SectionEdgeRepository extends Repository<Section, Long> {
+
+    @Query("select new subway.path.model.SectionEdge(s.line.id, s.line.version, s.upStation.id, s.downStation.id, s.distance) " +
+            "from Section s order by s.line.id, s.position")
+    List<SectionEdge> findAllEdges();
+
+    @Query("select new subway.path.model.SectionEdge(s.line.id, s.line.version, s.upStation.id, s.downStation.id, s.distance) " +
+            "from Section s where s.line.id = :lineId")
+    List<SectionEdge> findEdgesByLineId(@Param("lineId") Long lineId);
+}
@@ -0,0 +1,74 @@
+package subway.path.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import subway.path.model.PathGraph;
+import subway.path.model.SectionEdge;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 경로 탐색용 그래프를 보관한다. 노선별 구간 목록을 들고 있다가, 커밋 이후 바뀐 노선의 간선만 갈아 끼운 그래프를 만들어 게시한다.
+ * 조회는 게시된 그래프를 읽기만 하고, 구간 목록에 실린 노선 버전보다 오래된 목록은 버리므로 재적재가 뒤섞여 끝나도 최신 구간이 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PathGraphHolder {
+
+    private final PathGraphLoader pathGraphLoader;
+    private final Map<Long, List<SectionEdge>> edgesByLine = new HashMap<>();
+    private final Map<Long, Long> versionsByLine = new HashMap<>();
+    private final Map<Long, Long> deletedVersionsByLine = new HashMap<>();
+    private volatile PathGraph graph = PathGraph.empty();
+
+    @PostConstruct
+    public synchronized void initialize() {
+        List<SectionEdge> edges = pathGraphLoader.loadAllEdges();
+        edgesByLine.clear();
+        versionsByLine.clear();
+        edgesByLine.putAll(edges.stream().collect(Collectors.groupingBy(SectionEdge::getLineId)));
+        edgesByLine.forEach((lineId, lineEdges) -> versionsByLine.put(lineId, lineEdges.get(0).getLineVersion()));
+        graph = PathGraph.of(edges);
+    }
+
+    public PathGraph current() {
+        return graph;
+    }
+
+    /**
+     * 노선의 구간 목록을 교체한다. 이미 반영한 버전이나 노선을 삭제한 버전보다 새롭지 않은 목록은 버린다.
+     * 구간이 없는 목록은 그 사이 노선이 삭제된 것이므로, 삭제 이벤트가 지우도록 그대로 둔다.
+     */
+    public synchronized void replaceLine(final Long lineId, final List<SectionEdge> edges) {
+        if (edges.isEmpty()) {
+            return;
+        }
+        Long version = edges.get(0).getLineVersion();
+        if (!isNewer(version, versionsByLine.get(lineId)) || !isNewer(version, deletedVersionsByLine.get(lineId))) {
+            return;
+        }
+        List<SectionEdge> previous = edgesByLine.put(lineId, List.copyOf(edges));
+        versionsByLine.put(lineId, version);
+        graph = graph.withEdgesReplaced(previous == null ? List.of() : previous, edges);
+    }
+
+    /**
+     * 노선을 지우고 삭제한 버전을 남겨, 삭제 전에 읽은 구간 목록이 늦게 도착해도 되살리지 않는다.
+     */
+    public synchronized void removeLine(final Long lineId, final Long deletedVersion) {
+        deletedVersionsByLine.merge(lineId, deletedVersion, Math::max);
+        versionsByLine.remove(lineId);
+        List<SectionEdge> previous = edgesByLine.remove(lineId);
+        if (previous != null) {
+            graph = graph.withEdgesReplaced(previous, List.of());
+        }
+    }
+
+    private boolean isNewer(final Long version, final Long current) {
+        return current == null || version == null || version > current;
+    }
+}
@@ -0,0 +1,26 @@
+package subway.path.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import subway.path.model.SectionEdge;
+import subway.path.repository.SectionEdgeRepository;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+public class PathGraphLoader {
+
+    private final SectionEdgeRepository sectionEdgeRepository;
+
+    public List<SectionEdge> loadAllEdges() {
+        return sectionEdgeRepository.findAllEdges();
+    }
+
+    public List<SectionEdge> loadEdges(final Long lineId) {
+        return sectionEdgeRepository.findEdgesByLineId(lineId);
+    }
+}
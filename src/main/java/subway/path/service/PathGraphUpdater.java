@@ -0,0 +1,31 @@
+package subway.path.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.network.LineChangedEvent;
+import subway.network.NetworkImportedEvent;
+
+@Component
+@RequiredArgsConstructor
+public class PathGraphUpdater {
+
+    private final PathGraphHolder pathGraphHolder;
+    private final PathGraphLoader pathGraphLoader;
+
+    @TransactionalEventListener
+    public void onLineChanged(LineChangedEvent event) {
+        final Long lineId = event.getLineId();
+        if (event.isDeleted()) {
+            pathGraphHolder.removeLine(lineId, event.getDeletedVersion());
+            return;
+        }
+        pathGraphHolder.replaceLine(lineId, pathGraphLoader.loadEdges(lineId));
+    }
+
+    @EventListener
+    public void onNetworkImported(NetworkImportedEvent event) {
+        pathGraphHolder.initialize();
+    }
+}
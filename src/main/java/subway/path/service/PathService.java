@@ -0,0 +1,46 @@
+package subway.path.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import subway.exception.SubwayBadRequestException;
+import subway.exception.SubwayNotFoundException;
+import subway.line.constant.SubwayMessage;
+import subway.network.NetworkSnapshot;
+import subway.network.NetworkSnapshotHolder;
+import subway.path.dto.PathResponse;
+import subway.path.model.PathResult;
+import subway.station.dto.StationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PathService {
+
+    private final PathGraphHolder pathGraphHolder;
+    private final NetworkSnapshotHolder networkSnapshotHolder;
+
+    public PathResponse findPath(final Long source, final Long target) {
+        if (source.equals(target)) {
+            throw new SubwayBadRequestException(SubwayMessage.PATH_SOURCE_TARGET_DUPLICATION_MESSAGE);
+        }
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        if (snapshot.findStation(source).isEmpty() || snapshot.findStation(target).isEmpty()) {
+            throw new SubwayNotFoundException(SubwayMessage.STATION_NOT_FOUND_MESSAGE);
+        }
+
+        PathResult result = pathGraphHolder.current().findShortestPath(source, target)
+                .orElseThrow(() -> new SubwayBadRequestException(SubwayMessage.PATH_NOT_CONNECTED_MESSAGE));
+
+        List<StationResponse> stations = new ArrayList<>(result.getStationIds().length);
+        for (long stationId : result.getStationIds()) {
+            stations.add(snapshot.findStation(stationId)
+                    .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.STATION_NOT_FOUND_MESSAGE)));
+        }
+        return PathResponse.builder()
+                .stations(stations)
+                .distance(result.getDistance())
+                .build();
+    }
+}
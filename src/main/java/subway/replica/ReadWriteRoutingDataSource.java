@@ -0,0 +1,31 @@
+package subway.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 데이터베이스로 보낸다.
+ * 복제본이 아직 준비되지 않았거나, 허용한 지연보다 뒤처졌거나, 이 스레드가 방금 쓴 내용을 아직 반영하지 못했으면 읽기도 주 데이터베이스로 보낸다.
+ * 트랜잭션의 읽기 전용 여부는 연결을 얻은 뒤에 정해지므로, LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 고르도록 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaSynchronizer replicaSynchronizer;
+
+    public ReadWriteRoutingDataSource(final ReplicaSynchronizer replicaSynchronizer) {
+        this.replicaSynchronizer = replicaSynchronizer;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaSynchronizer.canServe(ReadYourWrites.pinnedSequence())) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
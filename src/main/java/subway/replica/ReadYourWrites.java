@@ -0,0 +1,25 @@
+package subway.replica;
+
+/**
+ * 현재 스레드가 마지막으로 커밋한 쓰기의 복제 순번. 복제본이 이 순번까지 반영하기 전에는 읽기도 주 데이터베이스에서 한다.
+ * 요청이 끝나면 비우고, 다음 요청에서는 쿠키로 받은 순번을 다시 걸어 같은 클라이언트의 읽기에 이어 준다.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Long> PINNED_SEQUENCE = ThreadLocal.withInitial(() -> 0L);
+
+    private ReadYourWrites() {
+    }
+
+    public static void pin(final long sequence) {
+        PINNED_SEQUENCE.set(Math.max(PINNED_SEQUENCE.get(), sequence));
+    }
+
+    public static long pinnedSequence() {
+        return PINNED_SEQUENCE.get();
+    }
+
+    public static void clear() {
+        PINNED_SEQUENCE.remove();
+    }
+}
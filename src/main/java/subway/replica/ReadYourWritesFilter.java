@@ -0,0 +1,107 @@
+package subway.replica;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 쓰기를 한 클라이언트에게 그 쓰기의 복제 순번을 쿠키로 돌려주고, 다음 요청에서 그 순번을 다시 걸어 준다.
+ * 복제본이 그 순번까지 반영하기 전에는 같은 클라이언트의 읽기가 주 데이터베이스로 가므로, 방금 쓴 내용을 항상 읽는다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "subway-write-seq";
+
+    private final ReplicaSynchronizer replicaSynchronizer;
+
+    public ReadYourWritesFilter(final ReplicaSynchronizer replicaSynchronizer) {
+        this.replicaSynchronizer = replicaSynchronizer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long requestSequence = sequenceOf(request);
+        ReadYourWrites.pin(requestSequence);
+        try {
+            filterChain.doFilter(request, new SequenceCookieResponse(response, requestSequence));
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private long sequenceOf(final HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0L;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * 응답 헤더가 나가기 직전에 이 요청이 쓴 순번이 있으면 쿠키를 붙인다.
+     */
+    private class SequenceCookieResponse extends HttpServletResponseWrapper {
+
+        private final long requestSequence;
+        private boolean written;
+
+        private SequenceCookieResponse(final HttpServletResponse response, final long requestSequence) {
+            super(response);
+            this.requestSequence = requestSequence;
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            addSequenceCookie();
+            super.setStatus(sc);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addSequenceCookie();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addSequenceCookie();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addSequenceCookie();
+            super.flushBuffer();
+        }
+
+        private void addSequenceCookie() {
+            long sequence = ReadYourWrites.pinnedSequence();
+            if (written || sequence <= requestSequence || sequence <= replicaSynchronizer.appliedSequence() || isCommitted()) {
+                return;
+            }
+            written = true;
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(sequence));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            addCookie(cookie);
+        }
+    }
+}
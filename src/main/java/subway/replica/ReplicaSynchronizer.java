@@ -0,0 +1,276 @@
+package subway.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.network.LineChangedEvent;
+import subway.network.NetworkImportedEvent;
+import subway.network.StationChangedEvent;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 주 데이터베이스의 변경을 복제본에 옮긴다. 기동할 때 스키마와 데이터를 통째로 복사하고,
+ * 이후에는 커밋된 노선, 역 변경 이벤트마다 순번을 매겨 큐에 넣은 뒤 한 스레드가 순서대로 해당 행을 주 데이터베이스에서 다시 읽어 복제본에 덮어쓴다.
+ * 복제본은 읽기 전용이므로 외래 키 없이 만들어, 반영 순서 때문에 제약에 걸리지 않게 한다.
+ * 변경은 반영을 마친 뒤에야 큐에서 빼므로, 큐의 맨 앞은 언제나 아직 반영하지 않은 가장 오래된 변경이다.
+ */
+@Slf4j
+public class ReplicaSynchronizer implements SmartInitializingSingleton {
+
+    private static final List<String> TABLES = List.of("station", "line", "section");
+    private static final long INITIAL_BACKOFF_MILLIS = 100L;
+    private static final long MAX_BACKOFF_MILLIS = 10_000L;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate replicaTransaction;
+    private final long maxLagMillis;
+    private final BlockingQueue<Change> changes = new LinkedBlockingQueue<>();
+    private final AtomicLong committedSequence = new AtomicLong();
+    private final AtomicLong appliedSequence = new AtomicLong();
+    private final Timer applyLag;
+    private final Thread applier = new Thread(this::applyChanges, "replica-synchronizer");
+    private volatile boolean ready;
+    private volatile long oldestPendingAt;
+
+    public ReplicaSynchronizer(final DataSource primaryDataSource,
+                               final DataSource replicaDataSource,
+                               final long maxLagMillis,
+                               final MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replicaTransaction = new TransactionTemplate(new DataSourceTransactionManager(replicaDataSource));
+        this.maxLagMillis = maxLagMillis;
+        this.applyLag = meterRegistry.timer("replica.apply.lag");
+        Gauge.builder("replica.pending", changes, BlockingQueue::size).register(meterRegistry);
+        this.applier.setDaemon(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        copySchema();
+        copyAll();
+        ready = true;
+        applier.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        applier.interrupt();
+    }
+
+    /**
+     * 복제본이 준비되었고, 가장 오래 기다린 변경도 허용한 지연 안에 있으며, requiredSequence 까지 반영했으면 true.
+     */
+    public boolean canServe(final long requiredSequence) {
+        if (!ready || appliedSequence.get() < requiredSequence) {
+            return false;
+        }
+        long pendingSince = oldestPendingAt;
+        return pendingSince == 0L || System.currentTimeMillis() - pendingSince <= maxLagMillis;
+    }
+
+    public long committedSequence() {
+        return committedSequence.get();
+    }
+
+    public long appliedSequence() {
+        return appliedSequence.get();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onLineChanged(LineChangedEvent event) {
+        enqueue(ChangeType.LINE, List.of(event.getLineId()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onStationChanged(StationChangedEvent event) {
+        enqueue(ChangeType.STATIONS, event.getStationIds());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onNetworkImported(NetworkImportedEvent event) {
+        enqueue(ChangeType.ALL, List.of());
+    }
+
+    private synchronized void enqueue(final ChangeType type, final Collection<Long> ids) {
+        long sequence = committedSequence.incrementAndGet();
+        Change change = new Change(sequence, type, ids, System.currentTimeMillis());
+        if (changes.isEmpty()) {
+            oldestPendingAt = change.enqueuedAt;
+        }
+        changes.add(change);
+        notifyAll();
+        ReadYourWrites.pin(sequence);
+    }
+
+    private void applyChanges() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Change change = nextChange();
+                try {
+                    replicaTransaction.executeWithoutResult(status -> apply(change));
+                    applied(change);
+                } catch (RuntimeException e) {
+                    log.error("[replica] failed to apply a change, copying everything again", e);
+                    resynchronize();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 큐의 맨 앞 변경을 빼지 않고 돌려준다. 큐가 비어 있으면 변경이 들어올 때까지 기다린다.
+     */
+    private synchronized Change nextChange() throws InterruptedException {
+        Change change;
+        while ((change = changes.peek()) == null) {
+            wait();
+        }
+        return change;
+    }
+
+    /**
+     * 모두 다시 복사한다. 실패하면 간격을 두 배씩 늘려 가며 성공할 때까지 재시도하고, 그동안 밀린 변경은 큐에 남아 지연으로 잡힌다.
+     */
+    private void resynchronize() throws InterruptedException {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            long sequence = committedSequence.get();
+            try {
+                replicaTransaction.executeWithoutResult(status -> copyAll());
+                resynchronized(sequence);
+                return;
+            } catch (RuntimeException e) {
+                log.error("[replica] failed to copy everything, retrying in {} ms", backoffMillis, e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private synchronized void applied(final Change change) {
+        changes.poll();
+        appliedSequence.set(change.sequence);
+        refreshOldestPendingAt();
+        applyLag.record(System.currentTimeMillis() - change.enqueuedAt, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void resynchronized(final long sequence) {
+        Change oldest = changes.peek();
+        changes.removeIf(change -> change.sequence <= sequence);
+        appliedSequence.set(sequence);
+        refreshOldestPendingAt();
+        if (oldest != null) {
+            applyLag.record(System.currentTimeMillis() - oldest.enqueuedAt, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refreshOldestPendingAt() {
+        Change next = changes.peek();
+        oldestPendingAt = next == null ? 0L : next.enqueuedAt;
+    }
+
+    private void apply(final Change change) {
+        switch (change.type) {
+            case STATIONS:
+                copyRows("station", "id", change.ids);
+                break;
+            case LINE:
+                copyRows("line", "id", change.ids);
+                copyRows("section", "line_id", change.ids);
+                break;
+            default:
+                copyAll();
+        }
+    }
+
+    private void copySchema() {
+        List<String> statements = primary.queryForList("script nodata", String.class);
+        for (String statement : statements) {
+            String upper = statement.toUpperCase();
+            if (upper.startsWith("--") || upper.startsWith("CREATE USER") || upper.contains("FOREIGN KEY")) {
+                continue;
+            }
+            replica.execute(statement);
+        }
+    }
+
+    private void copyAll() {
+        for (int i = TABLES.size() - 1; i >= 0; i--) {
+            replica.update("delete from " + TABLES.get(i));
+        }
+        for (String table : TABLES) {
+            insertRows(table, primary.queryForList("select * from " + table));
+        }
+    }
+
+    /**
+     * 주 데이터베이스에서 key 가 ids 에 속하는 행을 읽어 복제본에 덮어쓰고, 주 데이터베이스에 없는 행은 복제본에서도 지운다.
+     */
+    private void copyRows(final String table, final String key, final Collection<Long> ids) {
+        String in = key + " in (" + placeholders(ids) + ")";
+        List<Map<String, Object>> rows = primary.queryForList("select * from " + table + " where " + in, ids.toArray());
+        replica.update("delete from " + table + " where " + in, ids.toArray());
+        insertRows(table, rows);
+    }
+
+    private void insertRows(final String table, final List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "insert into " + table + " (" + String.join(", ", columns) + ") values ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        replica.batchUpdate(sql, rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .collect(Collectors.toList()));
+    }
+
+    private String placeholders(final Collection<Long> ids) {
+        return ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+    }
+
+    private enum ChangeType {
+        STATIONS, LINE, ALL
+    }
+
+    private static class Change {
+        private final long sequence;
+        private final ChangeType type;
+        private final Collection<Long> ids;
+        private final long enqueuedAt;
+
+        private Change(final long sequence, final ChangeType type, final Collection<Long> ids, final long enqueuedAt) {
+            this.sequence = sequence;
+            this.type = type;
+            this.ids = ids;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package subway.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌로 트랜잭션이 실패하면 트랜잭션 전체를 다시 실행한다.
+ * 트랜잭션 바깥에서 감싸야 하므로 @Transactional 메서드를 다른 빈에서 호출할 때만 동작한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+}
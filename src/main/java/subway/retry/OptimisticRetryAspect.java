@@ -0,0 +1,65 @@
+package subway.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import subway.exception.SubwayConflictException;
+import subway.line.constant.SubwayMessage;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link OptimisticRetry} 메서드를 최대 maxAttempts 번 실행한다. 재시도 사이에는 지수적으로 늘어나는 상한 안에서
+ * 무작위로 기다려(full jitter) 충돌한 요청들이 같은 시점에 다시 부딪히지 않게 한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class OptimisticRetryAspect {
+
+    private static final String METRIC_PREFIX = "line.optimistic.";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public OptimisticRetryAspect(MeterRegistry meterRegistry,
+                                 @Value("${subway.retry.max-attempts:5}") int maxAttempts,
+                                 @Value("${subway.retry.initial-backoff-ms:10}") long initialBackoffMillis,
+                                 @Value("${subway.retry.max-backoff-ms:200}") long maxBackoffMillis) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Around("@annotation(subway.retry.OptimisticRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        final String method = joinPoint.getSignature().toShortString();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter(METRIC_PREFIX + "conflicts", "method", method).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter(METRIC_PREFIX + "exhausted", "method", method).increment();
+                    throw new SubwayConflictException(SubwayMessage.LINE_CONCURRENT_MODIFICATION_MESSAGE);
+                }
+                meterRegistry.counter(METRIC_PREFIX + "retries", "method", method).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
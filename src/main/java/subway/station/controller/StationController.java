@@ -1,17 +1,26 @@
 package subway.station.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.station.dto.StationBatchRequest;
+import subway.station.dto.StationPage;
 import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
 import subway.station.service.StationService;
+import subway.stream.JsonArrayStreamer;
 
 import java.net.URI;
 import java.util.List;
@@ -21,6 +30,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StationController {
     private final StationService stationService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping
     public ResponseEntity<StationResponse> createStation(@RequestBody StationRequest stationRequest) {
@@ -28,9 +38,44 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<StationResponse>> createStations(@RequestBody StationBatchRequest batchRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(stationService.saveStations(batchRequest));
+    }
+
     @GetMapping
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<byte[]> showStations(WebRequest webRequest,
+                                               @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (webRequest.checkNotModified(stationService.findAllStationsETag())) {
+            return null;
+        }
+        return stationService.findAllStationsEncoded().toResponseEntity(acceptEncoding);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<List<StationResponse>> showStationPage(@RequestParam(name = "after", required = false) Long after,
+                                                                 @RequestParam(name = "limit") int limit) {
+        StationPage page = stationService.findStationsAfter(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        page.findNextCursor().ifPresent(cursor -> response.header(HttpHeaders.LINK,
+                "</stations?after=" + cursor + "&limit=" + limit + ">; rel=\"next\""));
+        return response.body(page.getStations());
+    }
+
+    /**
+     * 커서만 보내고 개수를 빠뜨린 요청도 나누어 조회로 처리한다. 커서를 무시하고 전체 목록을 주지 않는다.
+     */
+    @GetMapping(params = {"after", "!limit"})
+    public ResponseEntity<List<StationResponse>> showStationPageWithDefaultLimit(@RequestParam(name = "after") Long after) {
+        return showStationPage(after, StationService.DEFAULT_PAGE_LIMIT);
+    }
+
+    @GetMapping(params = {"stream=true", "!limit", "!after"})
+    public ResponseEntity<StreamingResponseBody> streamStations(WebRequest webRequest) {
+        if (webRequest.checkNotModified(stationService.findAllStationsETag())) {
+            return null;
+        }
+        return jsonArrayStreamer.stream(stationService.findAllStations());
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,11 @@
+package subway.station.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StationBatchRequest {
+
+    private List<String> names;
+}
@@ -0,0 +1,25 @@
+package subway.station.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 역 id 를 커서로 쓰는 한 페이지. 다음 페이지가 있으면 이 페이지 마지막 역의 id 가 다음 커서가 된다.
+ */
+@Getter
+public class StationPage {
+
+    private final List<StationResponse> stations;
+    private final Long nextCursor;
+
+    public StationPage(final List<StationResponse> stations, final Long nextCursor) {
+        this.stations = stations;
+        this.nextCursor = nextCursor;
+    }
+
+    public Optional<Long> findNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
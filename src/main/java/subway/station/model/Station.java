@@ -12,20 +12,28 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import java.util.Objects;
 
 @Getter
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_station_name", columnList = "name"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class Station {
+
+    public static final int MAX_NAME_LENGTH = 20;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_seq")
+    @SequenceGenerator(name = "station_seq", sequenceName = "station_seq", allocationSize = 50)
     private Long id;
-    @Column(length = 20, nullable = false)
+    @Column(length = MAX_NAME_LENGTH, nullable = false)
     private String name;
 
     @Override
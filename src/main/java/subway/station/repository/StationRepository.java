@@ -1,10 +1,21 @@
 package subway.station.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import subway.station.dto.StationResponse;
 import subway.station.model.Station;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StationRepository extends JpaRepository<Station, Long> {
     Optional<Station> findByName(String name);
+
+    @Query("select new subway.station.dto.StationResponse(s.id, s.name) from Station s order by s.id")
+    List<StationResponse> findAllResponses();
+
+    @Query("select new subway.station.dto.StationResponse(s.id, s.name) from Station s where s.id in :ids")
+    List<StationResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,127 @@
+package subway.station.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.cache.LruCache;
+import subway.network.StationChangedEvent;
+import subway.station.model.Station;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 역을 id 와 이름으로 찾은 결과를 개수 기준 LRU 로 보관한다. 없는 역은 보관하지 않는다.
+ * 트랜잭션마다 다른 영속성 컨텍스트에서 함께 쓰므로, 조회한 엔티티 대신 같은 id 와 이름을 가진 사본을 보관한다.
+ * 역이 바뀌면 변경 직전과 커밋 직후에 모두 지워, 커밋 전에 다른 요청이 옛 값을 다시 채워 넣어도 남지 않게 한다.
+ */
+@Component
+public class StationCache {
+
+    private static final String METRIC_PREFIX = "station.cache.";
+
+    private final LruCache<Long, Station> stationsById;
+    private final LruCache<String, Station> stationsByName;
+    private final Counter idHits;
+    private final Counter idMisses;
+    private final Counter nameHits;
+    private final Counter nameMisses;
+
+    public StationCache(MeterRegistry meterRegistry,
+                        @Value("${subway.station-cache.max-size:10000}") long maxSize) {
+        this.stationsById = LruCache.ofSize(maxSize);
+        this.stationsByName = LruCache.ofSize(maxSize);
+        this.idHits = meterRegistry.counter(METRIC_PREFIX + "requests", "key", "id", "result", "hit");
+        this.idMisses = meterRegistry.counter(METRIC_PREFIX + "requests", "key", "id", "result", "miss");
+        this.nameHits = meterRegistry.counter(METRIC_PREFIX + "requests", "key", "name", "result", "hit");
+        this.nameMisses = meterRegistry.counter(METRIC_PREFIX + "requests", "key", "name", "result", "miss");
+        Gauge.builder(METRIC_PREFIX + "entries", stationsById, LruCache::size).tag("key", "id").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "entries", stationsByName, LruCache::size).tag("key", "name").register(meterRegistry);
+    }
+
+    public Optional<Station> findById(final Long id, final Supplier<Optional<Station>> loader) {
+        Station cached = stationsById.get(id);
+        if (cached != null) {
+            idHits.increment();
+            return Optional.of(cached);
+        }
+        idMisses.increment();
+        return loader.get().map(this::copyOf).map(station -> {
+            stationsById.put(station.getId(), station);
+            return station;
+        });
+    }
+
+    /**
+     * 보관하지 않은 역만 loader 로 한 번에 읽는다. 찾지 못한 id 는 결과에 담지 않는다.
+     */
+    public Map<Long, Station> findAllById(final Collection<Long> ids, final Function<Collection<Long>, List<Station>> loader) {
+        Map<Long, Station> found = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : new HashSet<>(ids)) {
+            Station cached = stationsById.get(id);
+            if (cached == null) {
+                missingIds.add(id);
+                continue;
+            }
+            found.put(id, cached);
+        }
+        idHits.increment(found.size());
+        idMisses.increment(missingIds.size());
+        if (missingIds.isEmpty()) {
+            return found;
+        }
+        for (Station station : loader.apply(missingIds)) {
+            Station copied = copyOf(station);
+            stationsById.put(copied.getId(), copied);
+            found.put(copied.getId(), copied);
+        }
+        return found;
+    }
+
+    public Optional<Station> findByName(final String name, final Supplier<Optional<Station>> loader) {
+        Station cached = stationsByName.get(name);
+        if (cached != null) {
+            nameHits.increment();
+            return Optional.of(cached);
+        }
+        nameMisses.increment();
+        return loader.get().map(this::copyOf).map(station -> {
+            stationsByName.put(name, station);
+            return station;
+        });
+    }
+
+    public void evict(final Collection<Long> ids) {
+        ids.forEach(stationsById::remove);
+        Set<Long> evictedIds = new HashSet<>(ids);
+        stationsByName.removeIf((name, station) -> evictedIds.contains(station.getId()));
+    }
+
+    public void evictNames(final Collection<String> names) {
+        names.forEach(stationsByName::remove);
+    }
+
+    @TransactionalEventListener
+    public void onStationChanged(StationChangedEvent event) {
+        evict(event.getStationIds());
+    }
+
+    private Station copyOf(final Station station) {
+        return Station.builder()
+                .id(station.getId())
+                .name(station.getName())
+                .build();
+    }
+}
@@ -1,16 +1,27 @@
 package subway.station.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import subway.cache.EncodedResponse;
+import subway.cache.ResponseBytesCache;
+import subway.exception.SubwayBadRequestException;
 import subway.exception.SubwayNotFoundException;
 import subway.line.constant.SubwayMessage;
+import subway.network.NetworkSnapshot;
+import subway.network.NetworkSnapshotHolder;
+import subway.network.StationChangedEvent;
+import subway.station.dto.StationBatchRequest;
+import subway.station.dto.StationPage;
 import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
 import subway.station.model.Station;
 import subway.station.repository.StationRepository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,29 +29,105 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StationService {
 
+    public static final int DEFAULT_PAGE_LIMIT = 100;
+    public static final int MAX_PAGE_LIMIT = 1000;
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final StationRepository stationRepository;
+    private final NetworkSnapshotHolder networkSnapshotHolder;
+    private final ResponseBytesCache responseBytesCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StationCache stationCache;
 
     @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
+        validateName(stationRequest.getName());
         Station station = Station.builder()
                 .name(stationRequest.getName())
                 .build();
-        return StationResponse.from(stationRepository.save(station));
+        stationCache.evictNames(List.of(station.getName()));
+        Station savedStation = stationRepository.save(station);
+        eventPublisher.publishEvent(StationChangedEvent.of(savedStation.getId()));
+        return StationResponse.from(savedStation);
     }
 
-    public List<StationResponse> findAllStations() {
-        return stationRepository.findAll().stream()
+    @Transactional
+    public List<StationResponse> saveStations(StationBatchRequest batchRequest) {
+        if (batchRequest.getNames() == null || batchRequest.getNames().isEmpty()) {
+            throw new SubwayBadRequestException(SubwayMessage.STATION_BATCH_EMPTY_MESSAGE);
+        }
+        if (batchRequest.getNames().size() > MAX_BATCH_SIZE) {
+            throw new SubwayBadRequestException(SubwayMessage.STATION_BATCH_SIZE_VALID_MESSAGE.getCode(),
+                    SubwayMessage.STATION_BATCH_SIZE_VALID_MESSAGE.getFormatMessage(MAX_BATCH_SIZE));
+        }
+        batchRequest.getNames().forEach(this::validateName);
+        List<Station> stations = batchRequest.getNames().stream()
+                .map(name -> Station.builder().name(name).build())
+                .collect(Collectors.toList());
+        stationCache.evictNames(batchRequest.getNames());
+        List<Station> savedStations = stationRepository.saveAll(stations);
+        eventPublisher.publishEvent(new StationChangedEvent(savedStations.stream()
+                .map(Station::getId)
+                .collect(Collectors.toList())));
+        return savedStations.stream()
                 .map(StationResponse::from)
                 .collect(Collectors.toList());
     }
 
+    private void validateName(final String name) {
+        if (name == null || name.isBlank() || name.length() > Station.MAX_NAME_LENGTH) {
+            throw new SubwayBadRequestException(SubwayMessage.STATION_NAME_VALID_MESSAGE.getCode(),
+                    SubwayMessage.STATION_NAME_VALID_MESSAGE.getFormatMessage(Station.MAX_NAME_LENGTH));
+        }
+    }
+
+    public List<StationResponse> findAllStations() {
+        return networkSnapshotHolder.current().getStations();
+    }
+
+    public StationPage findStationsAfter(final Long after, final int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new SubwayBadRequestException(SubwayMessage.STATION_PAGE_LIMIT_VALID_MESSAGE.getCode(),
+                    SubwayMessage.STATION_PAGE_LIMIT_VALID_MESSAGE.getFormatMessage(MAX_PAGE_LIMIT));
+        }
+        return networkSnapshotHolder.current().findStationsAfter(after, limit);
+    }
+
+    public String findAllStationsETag() {
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        return EncodedResponse.weakETag("stations-" + snapshot.getEpoch() + "-" + snapshot.getVersion());
+    }
+
+    public EncodedResponse findAllStationsEncoded() {
+        NetworkSnapshot snapshot = networkSnapshotHolder.current();
+        return responseBytesCache.get("stations", snapshot.getVersion(), snapshot::getStations);
+    }
+
     @Transactional
     public void deleteStationById(Long id) {
+        stationCache.evict(List.of(id));
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(StationChangedEvent.of(id));
     }
 
     public Station findStationById(Long id) {
-        return stationRepository.findById(id)
+        return stationCache.findById(id, () -> stationRepository.findById(id))
+                .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.STATION_NOT_FOUND_MESSAGE));
+    }
+
+    /**
+     * 요청한 역을 모두 찾는다. 하나라도 없으면 예외를 던진다.
+     */
+    public Map<Long, Station> findStationsByIds(Collection<Long> ids) {
+        Map<Long, Station> stations = stationCache.findAllById(ids, stationRepository::findAllById);
+        if (!stations.keySet().containsAll(ids)) {
+            throw new SubwayNotFoundException(SubwayMessage.STATION_NOT_FOUND_MESSAGE);
+        }
+        return stations;
+    }
+
+    public Station findStationByName(String name) {
+        return stationCache.findByName(name, () -> stationRepository.findByName(name))
                 .orElseThrow(() -> new SubwayNotFoundException(SubwayMessage.STATION_NOT_FOUND_MESSAGE));
     }
 }
@@ -0,0 +1,34 @@
+package subway.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * durable 프로필에서 파일 데이터베이스를 주기적으로 체크포인트한다.
+ * 기본값 WRITE_DELAY=0 은 커밋마다 디스크에 쓴다. 값을 올리면 그만큼 커밋을 모아 쓰는 대신, 그 사이에 죽으면 마지막 구간의 커밋을 잃는다.
+ * 체크포인트는 그와 별개로 쌓인 변경을 저장소에 반영해 재시작 시 복구할 양을 줄인다.
+ */
+@Configuration
+@Profile("durable")
+@EnableScheduling
+public class DurableStorageConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer checkpoints;
+
+    public DurableStorageConfig(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpoints = meterRegistry.timer("h2.checkpoint");
+    }
+
+    @Scheduled(initialDelayString = "${subway.durable.checkpoint-interval-ms}",
+            fixedDelayString = "${subway.durable.checkpoint-interval-ms}")
+    public void checkpoint() {
+        checkpoints.record(() -> jdbcTemplate.execute("CHECKPOINT"));
+    }
+}
@@ -0,0 +1,47 @@
+package subway.stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * 목록 전체를 한 번에 직렬화하지 않고, 원소를 하나씩 응답 스트림에 바로 쓴다.
+ * 요청마다 필요한 메모리는 원소 하나를 쓰는 데 드는 만큼으로 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonArrayStreamer {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(final Iterable<T> elements, final ElementWriter<T> writer) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.writeStartArray();
+                for (T element : elements) {
+                    writer.write(generator, element);
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(final Iterable<T> elements) {
+        return stream(elements, JsonGenerator::writeObject);
+    }
+
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        void write(JsonGenerator generator, T element) throws IOException;
+    }
+}
@@ -0,0 +1,158 @@
+package subway.dump;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import subway.ApiTest;
+import subway.SubwayApplication;
+import subway.line.LineApi;
+import subway.line.RequestGenerator;
+import subway.network.NetworkSnapshotHolder;
+import subway.station.StationApi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@DisplayName("노선도 이진 파일 내보내기와 들여오기")
+public class NetworkDumpTest extends ApiTest {
+
+    @TempDir
+    Path dir;
+
+    @Autowired
+    private NetworkDump networkDump;
+
+    @Autowired
+    private NetworkSnapshotHolder networkSnapshotHolder;
+
+    /**
+     * Given 노선도를 만들어 파일로 내보내고
+     * When 그 파일을 지정해 빈 데이터베이스로 애플리케이션을 새로 띄우면
+     * Then 내보내기 전과 같은 노선 목록과 역 목록을 응답 받고, 노선 버전도 그대로 남고
+     * Then 새로 만드는 역과 노선은 들여온 id 와 겹치지 않는다
+     */
+    @DisplayName("내보낸 노선도를 그대로 들여온다.")
+    @Test
+    void exportAndLoad() throws IOException {
+        // given
+        List<Long> stationIds = StationApi.createStationsByNames(List.of("강남역", "역삼역", "선릉역", "양재역"))
+                .jsonPath().getList("id", Long.class);
+        String greenLine = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1))).header("Location");
+        LineApi.appendSectionInLine(greenLine + "/sections", RequestGenerator.generateSectionCreateRequest(stationIds.get(1), stationIds.get(2), 10L));
+        String redLine = LineApi.createLine(RequestGenerator.generateLineCreateRequest("신분당선", "bg-red-600", stationIds.get(0), stationIds.get(3), 3L))
+                .header("Location");
+        final String exportedLines = LineApi.retrieveLines().body().asString();
+        final String exportedStations = StationApi.retrieveStations().body().asString();
+
+        final long redLineId = LineApi.retrieveLineByLocation(redLine).jsonPath().getLong("id");
+        final long greenLineId = LineApi.retrieveLineByLocation(greenLine).jsonPath().getLong("id");
+        final Long greenLineVersion = networkSnapshotHolder.current().findLine(greenLineId).orElseThrow().getVersion();
+        Path file = dir.resolve("network.dump");
+        networkDump.export(file);
+
+        // when
+        try (ConfigurableApplicationContext restarted = startWithDump(file)) {
+            final int port = RestAssured.port;
+            RestAssured.port = ((WebServerApplicationContext) restarted).getWebServer().getPort();
+            try {
+                // then
+                assertThat(LineApi.retrieveLines().body().asString()).isEqualTo(exportedLines);
+                assertThat(StationApi.retrieveStations().body().asString()).isEqualTo(exportedStations);
+                assertThat(restarted.getBean(NetworkSnapshotHolder.class).current().findLine(greenLineId).orElseThrow().getVersion())
+                        .isEqualTo(greenLineVersion);
+
+                // then
+                ExtractableResponse<Response> createStationResponse = StationApi.createStationByName("삼성역");
+                assertThat(createStationResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+                assertThat(createStationResponse.jsonPath().getLong("id")).isGreaterThan(Collections.max(stationIds));
+                ExtractableResponse<Response> appendResponse = LineApi.appendSectionInLine(greenLine + "/sections",
+                        RequestGenerator.generateSectionCreateRequest(stationIds.get(2), createStationResponse.jsonPath().getLong("id"), 10L));
+                assertThat(appendResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+                ExtractableResponse<Response> createLineResponse = LineApi.createLine(RequestGenerator.generateLineCreateRequest(
+                        "3호선", "bg-orange-600", stationIds.get(3), createStationResponse.jsonPath().getLong("id"), 5L));
+                assertThat(createLineResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+                assertThat(createLineResponse.jsonPath().getLong("id")).isGreaterThan(redLineId);
+            } finally {
+                RestAssured.port = port;
+            }
+        }
+    }
+
+    /**
+     * Given 역이 있는 상태에서
+     * When 노선도 파일을 들여오면
+     * Then 기존 데이터를 덮어쓰지 않는다
+     */
+    @DisplayName("데이터가 있으면 노선도 파일을 들여오지 않는다.")
+    @Test
+    void loadIntoNonEmptyDatabase() throws IOException {
+        // given
+        StationApi.createStationByName("강남역");
+        Path file = dir.resolve("network.dump");
+        networkDump.export(file);
+
+        // when
+        boolean loaded = networkDump.load(file);
+
+        // then
+        assertThat(loaded).isFalse();
+        assertThat(StationApi.retrieveStations().jsonPath().getList("name", String.class)).containsExactly("강남역");
+    }
+
+    /**
+     * Given 노선 레코드의 구간 범위가 구간 표를 벗어나게 손상된 파일로
+     * When 빈 데이터베이스로 애플리케이션을 띄우면
+     * Then 손상된 파일이라는 오류로 기동에 실패한다
+     */
+    @DisplayName("손상된 노선도 파일은 들여오지 않는다.")
+    @Test
+    void loadCorruptDump() throws IOException {
+        // given
+        List<Long> stationIds = StationApi.createStationsByNames(List.of("강남역", "역삼역"))
+                .jsonPath().getList("id", Long.class);
+        LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1)));
+        Path file = dir.resolve("network.dump");
+        networkDump.export(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            int sectionCountAt = 6 * Integer.BYTES + stationIds.size() * (Long.BYTES + 2 * Integer.BYTES) + 2 * Long.BYTES + 5 * Integer.BYTES;
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 99), sectionCountAt);
+        }
+
+        // when, then
+        assertThatThrownBy(() -> startWithDump(file).close())
+                .hasStackTraceContaining("노선도 파일이 손상되었습니다");
+    }
+
+    /**
+     * 들여오기는 기동할 때만 하므로, 새 데이터베이스와 임의 포트로 애플리케이션을 하나 더 띄운다.
+     */
+    private ConfigurableApplicationContext startWithDump(final Path file) {
+        return new SpringApplicationBuilder(SubwayApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:dump-" + UUID.randomUUID(),
+                        "subway.dump.file=" + file.toAbsolutePath(),
+                        "subway.dump.export-on-shutdown=false")
+                .run();
+    }
+}
@@ -0,0 +1,164 @@
+package subway.importer;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import subway.ApiTest;
+import subway.line.LineApi;
+import subway.path.PathApi;
+import subway.station.StationApi;
+import subway.station.model.Station;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = "subway.import.chunk-size=2")
+@DisplayName("노선도 CSV 가져오기")
+public class NetworkCsvImportTest extends ApiTest {
+
+    @TempDir
+    Path dir;
+
+    @Autowired
+    private NetworkCsvImporter networkCsvImporter;
+
+    /**
+     * Given 역 파일과 두 노선의 구간 파일이 있을 때
+     * When 노선도를 가져오면
+     * Then 노선 목록 조회 시 구간 순서대로 역 목록을 응답 받고
+     * Then 두 노선을 갈아타는 경로를 찾을 수 있다
+     */
+    @DisplayName("역과 구간 CSV 파일로 노선도를 가져온다.")
+    @Test
+    void importNetwork() throws IOException {
+        // given
+        Path stations = write("stations.csv", "name", "강남역", "역삼역", "선릉역", "양재역", "양재시민의숲역");
+        Path sections = write("sections.csv", "line,color,up,down,distance",
+                "2호선,bg-green-600,강남역,역삼역,10",
+                "2호선,bg-green-600,역삼역,선릉역,10",
+                "신분당선,bg-red-600,강남역,양재역,3",
+                "신분당선,bg-red-600,양재역,양재시민의숲역,4");
+
+        // when
+        ImportResult result = networkCsvImporter.importFrom(stations, sections);
+
+        // then
+        assertThat(result.getStations()).isEqualTo(5);
+        assertThat(result.getLines()).isEqualTo(2);
+        assertThat(result.getSections()).isEqualTo(4);
+        ExtractableResponse<Response> linesResponse = LineApi.retrieveLines();
+        assertThat(linesResponse.jsonPath().getList("name", String.class)).containsExactly("2호선", "신분당선");
+        assertThat(linesResponse.jsonPath().getList("[0].stations.name", String.class)).containsExactly("강남역", "역삼역", "선릉역");
+
+        // then
+        List<Long> stationIds = StationApi.retrieveStations().jsonPath().getList("id", Long.class);
+        ExtractableResponse<Response> pathResponse = PathApi.findPath(stationIds.get(2), stationIds.get(4));
+        assertThat(pathResponse.jsonPath().getList("stations.name", String.class))
+                .containsExactly("선릉역", "역삼역", "강남역", "양재역", "양재시민의숲역");
+    }
+
+    /**
+     * Given 쉼표와 큰따옴표가 든 항목을 큰따옴표로 감싼 파일이 있을 때
+     * When 노선도를 가져오면
+     * Then 감싼 항목을 하나의 값으로 읽는다
+     */
+    @DisplayName("큰따옴표로 감싼 항목은 쉼표가 들어 있어도 하나의 값으로 가져온다.")
+    @Test
+    void importNetworkWithQuotedColumns() throws IOException {
+        // given
+        Path stations = write("stations.csv", "name", "강남역", "\"양재역\"");
+        Path sections = write("sections.csv", "line,color,up,down,distance",
+                "\"신분당선, \"\"연장\"\"\",bg-red-600,강남역,양재역,3");
+
+        // when
+        networkCsvImporter.importFrom(stations, sections);
+
+        // then
+        ExtractableResponse<Response> linesResponse = LineApi.retrieveLines();
+        assertThat(linesResponse.jsonPath().getList("name", String.class)).containsExactly("신분당선, \"연장\"");
+        assertThat(linesResponse.jsonPath().getList("[0].stations.name", String.class)).containsExactly("강남역", "양재역");
+    }
+
+    /**
+     * Given 구간 파일에 없는 역이 들어 있을 때
+     * When 노선도를 가져오면
+     * Then 몇 번째 줄이 잘못되었는지 알려주고
+     * Then 먼저 커밋된 역은 역 목록 조회에 보인다
+     */
+    @DisplayName("없는 역이 들어 있는 구간 CSV 파일은 가져올 수 없다.")
+    @Test
+    void importNetworkWithUnknownStation() throws IOException {
+        // given
+        Path stations = write("stations.csv", "name", "강남역", "역삼역");
+        Path sections = write("sections.csv", "line,color,up,down,distance",
+                "2호선,bg-green-600,강남역,역삼역,10",
+                "2호선,bg-green-600,역삼역,선릉역,10");
+
+        // when, then
+        assertThatThrownBy(() -> networkCsvImporter.importFrom(stations, sections))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("3번째 줄");
+        assertThat(StationApi.retrieveStations().jsonPath().getList("name", String.class))
+                .containsExactly("강남역", "역삼역");
+    }
+
+    /**
+     * Given 역 파일에 너무 긴 역 이름이 들어 있을 때
+     * When 노선도를 가져오면
+     * Then 데이터베이스 오류 없이 몇 번째 줄이 잘못되었는지 알려준다
+     */
+    @DisplayName("이름이 너무 긴 역이 들어 있는 역 CSV 파일은 가져올 수 없다.")
+    @Test
+    void importNetworkWithLongStationName() throws IOException {
+        // given
+        Path stations = write("stations.csv", "name", "강남역", "가".repeat(Station.MAX_NAME_LENGTH + 1));
+        Path sections = write("sections.csv", "line,color,up,down,distance");
+
+        // when, then
+        assertThatThrownBy(() -> networkCsvImporter.importFrom(stations, sections))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("3번째 줄");
+    }
+
+    /**
+     * Given 구간 파일에 숫자가 아니거나 1보다 작은 거리가 들어 있을 때
+     * When 노선도를 가져오면
+     * Then 몇 번째 줄이 잘못되었는지 알려준다
+     */
+    @DisplayName("거리가 잘못된 구간 CSV 파일은 가져올 수 없다.")
+    @Test
+    void importNetworkWithInvalidDistance() throws IOException {
+        // given
+        Path stations = write("stations.csv", "name", "강남역", "역삼역", "선릉역");
+        Path notNumber = write("not-number.csv", "line,color,up,down,distance",
+                "2호선,bg-green-600,강남역,역삼역,10",
+                "2호선,bg-green-600,역삼역,선릉역,십");
+        Path zero = write("zero.csv", "line,color,up,down,distance",
+                "2호선,bg-green-600,강남역,역삼역,0");
+
+        // when, then
+        assertThatThrownBy(() -> networkCsvImporter.importFrom(stations, notNumber))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("3번째 줄");
+        assertThatThrownBy(() -> networkCsvImporter.importFrom(stations, zero))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째 줄");
+    }
+
+    private Path write(final String fileName, final String... lines) throws IOException {
+        return Files.write(dir.resolve(fileName), List.of(lines), StandardCharsets.UTF_8);
+    }
+}
@@ -5,13 +5,20 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.annotation.DirtiesContext;
 import subway.ApiTest;
 import subway.line.controller.LineController;
+import subway.line.dto.LineResponse;
 import subway.line.repository.LineRepository;
 import subway.line.service.LineService;
+import subway.network.NetworkImportedEvent;
+import subway.network.NetworkSnapshotHolder;
+import subway.network.NetworkSnapshotLoader;
 import subway.station.StationApi;
 import subway.station.controller.StationController;
 import subway.station.repository.StationRepository;
@@ -30,6 +37,15 @@ public class LineAcceptanceTest extends ApiTest {
 
     public List<Long> stationIds = new ArrayList<>();
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private NetworkSnapshotLoader networkSnapshotLoader;
+
+    @Autowired
+    private NetworkSnapshotHolder networkSnapshotHolder;
+
     @BeforeEach
     void addStations() {
         List.of("강남역", "역삼역", "잠실역").forEach(StationApi::createStationByName);
@@ -78,6 +94,71 @@ public class LineAcceptanceTest extends ApiTest {
 
     }
 
+    /**
+     * Given 2개의 지하철 노선을 생성하고
+     * When 없는 노선 id 를 섞어 여러 노선을 한 번에 조회하면
+     * Then 있는 노선은 요청한 순서대로, 없는 노선은 id 로 응답 받는다
+     */
+    @DisplayName("여러 지하철 노선을 id 로 한 번에 조회한다.")
+    @Test
+    void retrieveLinesByIds() {
+        // given
+        final Long firstLineId = LineApi.createLine(RequestGenerator.일호선_요청_만들기(stationIds.get(0), stationIds.get(1)))
+                .jsonPath().getLong("id");
+        final Long secondLineId = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(2)))
+                .jsonPath().getLong("id");
+        final Long missingLineId = secondLineId + 100;
+
+        // when
+        ExtractableResponse<Response> response = LineApi.retrieveLinesByIds(List.of(secondLineId, missingLineId, firstLineId));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("lines.id", Long.class)).containsExactly(secondLineId, firstLineId);
+        assertThat(response.jsonPath().getList("lines[0].stations.id", Long.class)).containsExactly(stationIds.get(0), stationIds.get(2));
+        assertThat(response.jsonPath().getList("missingIds", Long.class)).containsExactly(missingLineId);
+    }
+
+    /**
+     * Given 2개의 지하철 노선을 생성하고
+     * When 지하철 노선 목록을 스트리밍으로 조회하면
+     * Then 한 번에 조회한 노선 목록과 같은 내용을 응답 받는다
+     */
+    @DisplayName("지하철 노선 목록을 스트리밍으로 조회한다.")
+    @Test
+    void streamLines() {
+        // given
+        LineApi.createLine(RequestGenerator.일호선_요청_만들기(stationIds.get(0), stationIds.get(1)));
+        LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(2)));
+
+        // when
+        ExtractableResponse<Response> streamResponse = LineApi.streamLines();
+
+        // then
+        assertThat(streamResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(streamResponse.body().asString()).isEqualTo(LineApi.retrieveLines().body().asString());
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 노선 목록을 조회한 뒤
+     * When 지하철 노선을 하나 더 생성하고 노선 목록을 다시 조회하면
+     * Then 새로 생성한 노선도 조회할 수 있다.
+     */
+    @DisplayName("노선이 바뀌면 이전에 조회한 노선 목록 대신 바뀐 목록을 조회 한다.")
+    @Test
+    void retrieveLinesAfterChange() {
+        // given
+        LineApi.createLine(RequestGenerator.일호선_요청_만들기(stationIds.get(0), stationIds.get(1)));
+        LineApi.retrieveLines();
+
+        // when
+        LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(2)));
+        ExtractableResponse<Response> retrieveLineResponse = LineApi.retrieveLines();
+
+        // then
+        assertThat(retrieveLineResponse.jsonPath().getList("name", String.class)).containsExactly("1호선", "2호선");
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 조회하면
@@ -100,10 +181,65 @@ public class LineAcceptanceTest extends ApiTest {
 
     }
 
+    /**
+     * Given 지하철 노선을 생성하고 조회해 인코딩과 무관한 약한 ETag 를 받은 뒤
+     * When 받은 ETag 로 다시 조회하면
+     * Then 노선 정보 없이 변경되지 않았음을 응답 받고
+     * When 노선을 수정한 뒤 같은 ETag 로 조회하면
+     * Then 수정된 노선 정보와 새 ETag 를 응답 받는다
+     */
+    @DisplayName("지하철 노선이 바뀌지 않았으면 노선 정보를 다시 받지 않는다.")
+    @Test
+    void retrieveLineIfNoneMatch() {
+        // given
+        Map<String, String> firstBlueLine = RequestGenerator.일호선_요청_만들기(stationIds.get(0), stationIds.get(1));
+        final String location = LineApi.createLine(firstBlueLine).header("Location");
+        final String eTag = LineApi.retrieveLineByLocation(location).header(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/");
+
+        // when
+        ExtractableResponse<Response> notModifiedResponse = LineApi.retrieveLineByLocationIfNoneMatch(location, eTag);
+
+        // then
+        assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // when
+        LineApi.modifyLineByLocation(location, RequestGenerator.generateLineModifyRequest("1호선천안", "bg-blue-800"));
+        ExtractableResponse<Response> modifiedResponse = LineApi.retrieveLineByLocationIfNoneMatch(location, eTag);
+
+        // then
+        assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(modifiedResponse.jsonPath().getString("name")).isEqualTo("1호선천안");
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고 조회해 ETag 를 받은 뒤
+     * When 노선도를 통째로 다시 들여오고 같은 ETag 로 조회하면
+     * Then 노선 버전이 같아도 새 ETag 와 노선 정보를 응답 받는다
+     */
+    @DisplayName("노선도를 다시 들여오면 노선 ETag 가 바뀐다.")
+    @Test
+    void changeLineETagAfterImport() {
+        // given
+        final String location = LineApi.createLine(RequestGenerator.일호선_요청_만들기(stationIds.get(0), stationIds.get(1)))
+                .header("Location");
+        final String eTag = LineApi.retrieveLineByLocation(location).header(HttpHeaders.ETAG);
+
+        // when
+        eventPublisher.publishEvent(new NetworkImportedEvent());
+        ExtractableResponse<Response> response = LineApi.retrieveLineByLocationIfNoneMatch(location, eTag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 수정하면
      * Then 해당 지하철 노선 정보는 수정된다
+     * Then 지하철 노선 조회 시 수정된 정보를 응답받을 수 있다
      */
     @DisplayName("지하철 노선을 수정 한다.")
     @Test
@@ -119,6 +255,11 @@ public class LineAcceptanceTest extends ApiTest {
 
         // then
         assertThat(modifyLineResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        // then
+        ExtractableResponse<Response> retrieveLineResponse = LineApi.retrieveLineByLocation(createdLocation);
+        assertThat(retrieveLineResponse.jsonPath().getString("name")).isEqualTo("1호선천안");
+        assertThat(retrieveLineResponse.jsonPath().getString("color")).isEqualTo("bg-blue-800");
     }
 
     /**
@@ -143,4 +284,27 @@ public class LineAcceptanceTest extends ApiTest {
         ExtractableResponse<Response> retrieveLinesResponse = LineApi.retrieveLines();
         assertThat(retrieveLinesResponse.body().jsonPath().getList("id")).doesNotContain(createdId);
     }
+
+    /**
+     * Given 지하철 노선을 삭제하기 전에 그 노선을 읽어 두고
+     * When 노선 삭제가 반영된 뒤에 읽어 둔 노선이 늦게 반영되면
+     * Then 삭제된 노선은 되살아나지 않는다
+     */
+    @DisplayName("삭제 전에 읽은 노선이 늦게 반영되어도 삭제된 노선은 되살아나지 않는다.")
+    @Test
+    void ignoreStaleLineAfterDelete() {
+        // given
+        final String createdLocation = LineApi.createLine(RequestGenerator.일호선_요청_만들기(stationIds.get(0), stationIds.get(1)))
+                .header("Location");
+        final Long createdId = Long.parseLong(createdLocation.substring(createdLocation.lastIndexOf('/') + 1));
+        LineResponse staleLine = networkSnapshotLoader.loadLine(createdId).orElseThrow();
+        LineApi.deleteLineByLocation(createdLocation);
+
+        // when
+        networkSnapshotHolder.update(snapshot -> snapshot.withLine(staleLine));
+
+        // then
+        assertThat(LineApi.retrieveLineByLocation(createdLocation).statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(LineApi.retrieveLines().jsonPath().getList("id", Long.class)).doesNotContain(createdId);
+    }
 }
@@ -3,11 +3,14 @@ package subway.line;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public class LineApi {
 
@@ -27,6 +30,22 @@ public class LineApi {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> retrieveLinesByIds(final List<Long> ids) {
+        return RestAssured.given().log().all()
+                .queryParam("ids", ids.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> streamLines() {
+        return RestAssured.given().log().all()
+                .queryParam("stream", true)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> retrieveLineByLocation(final String createdLocation) {
         return RestAssured.given().log().all()
                 .when().get(createdLocation)
@@ -34,6 +53,14 @@ public class LineApi {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> retrieveLineByLocationIfNoneMatch(final String createdLocation, final String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get(createdLocation)
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> modifyLineByLocation(final String createdLocation, final Map<String, String> request) {
         return RestAssured.given().log().all()
                 .body(request)
@@ -43,6 +70,13 @@ public class LineApi {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> deleteLineByLocation(final String createdLocation) {
+        return RestAssured.given().log().all()
+                .when().delete(createdLocation)
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> appendSectionInLine(final String appendLocation, final Map<String, String> request) {
         return RestAssured.given().log().all()
                 .body(request)
@@ -52,6 +86,15 @@ public class LineApi {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> appendSectionsInLine(final String appendLocation, final List<Map<String, String>> sections) {
+        return RestAssured.given().log().all()
+                .body(Map.of("sections", sections))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post(appendLocation + "/batch")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> removeSectionInLine(final String baseUri, final Long deleteLocation) {
         UriComponents deleteQueryWithBaseUri = UriComponentsBuilder
                 .fromUriString(baseUri)
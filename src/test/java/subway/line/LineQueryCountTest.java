@@ -0,0 +1,84 @@
+package subway.line;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import subway.ApiTest;
+import subway.line.dto.LineResponse;
+import subway.network.NetworkSnapshotLoader;
+import subway.station.StationApi;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("지하철 노선 조회 쿼리 수")
+public class LineQueryCountTest extends ApiTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NetworkSnapshotLoader networkSnapshotLoader;
+
+    public List<Long> stationIds = new ArrayList<>();
+
+    @BeforeEach
+    void addStations() {
+        IntStream.rangeClosed(1, 12).forEach(i -> StationApi.createStationByName(i + "역"));
+        ExtractableResponse<Response> response = StationApi.retrieveStations();
+        stationIds = response.body().jsonPath().getList("id", Long.class);
+    }
+
+    /**
+     * Given 1개의 구간을 가진 노선 1개가 있을 때 노선 목록을 채우는 스냅샷 적재 쿼리 수를 구하고
+     * When 여러 구간을 가진 노선을 추가로 생성한 뒤 스냅샷을 다시 적재하면
+     * Then 스냅샷 적재 쿼리 수는 노선과 구간 수에 관계 없이 같다.
+     */
+    @DisplayName("노선 목록을 채우는 스냅샷 적재 쿼리 수는 노선과 구간 수에 따라 늘어나지 않는다.")
+    @Test
+    void findAllLinesWithConstantQueries() {
+        // given
+        LineApi.createLine(RequestGenerator.일호선_요청_만들기(stationIds.get(0), stationIds.get(1)));
+        final long singleLineStatements = countStatementsOfFindAllLines();
+
+        // when
+        createLineWithSections("2호선", stationIds.subList(2, 7));
+        createLineWithSections("3호선", stationIds.subList(7, 12));
+        final long manyLinesStatements = countStatementsOfFindAllLines();
+
+        // then
+        assertThat(manyLinesStatements).isEqualTo(singleLineStatements);
+    }
+
+    private void createLineWithSections(final String name, final List<Long> stations) {
+        ExtractableResponse<Response> createResponse = LineApi.createLine(
+                RequestGenerator.generateLineCreateRequest(name, "bg-red-600", stations.get(0), stations.get(1), 10L));
+        final String appendLocation = createResponse.header("Location") + "/sections";
+        for (int i = 1; i < stations.size() - 1; i++) {
+            LineApi.appendSectionInLine(appendLocation,
+                    RequestGenerator.generateSectionCreateRequest(stations.get(i), stations.get(i + 1), 10L));
+        }
+    }
+
+    private long countStatementsOfFindAllLines() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<LineResponse> lines = networkSnapshotLoader.loadAll().getLines();
+        assertThat(lines).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+}
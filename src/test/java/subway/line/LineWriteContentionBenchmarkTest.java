@@ -0,0 +1,207 @@
+package subway.line;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import subway.ApiTest;
+import subway.exception.SubwayException;
+import subway.line.dto.LineModifyRequest;
+import subway.line.dto.LineResponse;
+import subway.line.dto.SectionCreateRequest;
+import subway.line.dto.SectionDeleteRequest;
+import subway.line.service.LineComponent;
+import subway.line.service.LineService;
+import subway.network.NetworkSnapshotHolder;
+import subway.station.StationApi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+/**
+ * 같은 수의 스레드가 쓰는 노선 수를 늘려가며 노선 쓰기 처리량을 잰다.
+ * 같은 노선의 쓰기는 순서대로, 다른 노선의 쓰기는 동시에 실행되므로 노선 수에 따라 처리량이 늘어나야 한다.
+ */
+@Tag("benchmark")
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@DisplayName("노선 쓰기 경합 벤치마크")
+public class LineWriteContentionBenchmarkTest extends ApiTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final long DURATION_MILLIS = Long.getLong("benchmark.durationMillis", 3_000L);
+    private static final List<Integer> DISTINCT_LINES = List.of(1, 2, 4, 8);
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private LineComponent lineComponent;
+
+    @Autowired
+    private NetworkSnapshotHolder networkSnapshotHolder;
+
+    @DisplayName("수정하는 노선 수에 따른 노선 수정 처리량을 비교한다.")
+    @Test
+    void updateLinesConcurrently() throws InterruptedException {
+        List<Long> lineIds = createLines(DISTINCT_LINES.get(DISTINCT_LINES.size() - 1));
+
+        for (int distinctLines : DISTINCT_LINES) {
+            Result result = runConcurrently(lineIds.subList(0, distinctLines), (lineId, threadNumber, deadline, conflicts) -> {
+                long operations = 0L;
+                for (int i = 0; System.currentTimeMillis() < deadline; i++) {
+                    lineService.updateLine(lineId, LineModifyRequest.builder()
+                            .name(threadNumber + "-" + i + "호선")
+                            .color("bg-blue-600")
+                            .build());
+                    operations++;
+                }
+                return operations;
+            });
+            result.print("updates", distinctLines);
+            assertThat(result.operations).isPositive();
+        }
+    }
+
+    /**
+     * 스레드마다 예비역 하나를 노선 하행 종점에 붙였다가 뗀다. 같은 노선을 쓰는 다른 스레드가 종점을 먼저 바꾸면
+     * 요청이 거절되므로, 최신 종점을 다시 읽어 재시도하고 그 횟수를 충돌로 센다.
+     */
+    @DisplayName("쓰는 노선 수에 따른 구간 추가/삭제 처리량을 비교한다.")
+    @Test
+    void appendAndDeleteSectionsConcurrently() throws InterruptedException {
+        List<Long> lineIds = createLines(DISTINCT_LINES.get(DISTINCT_LINES.size() - 1));
+        List<Long> spareStations = StationApi.createStationsByNames(IntStream.range(0, THREADS)
+                        .mapToObj(i -> "예비" + i + "역")
+                        .collect(Collectors.toList()))
+                .jsonPath().getList("id", Long.class);
+
+        for (int distinctLines : DISTINCT_LINES) {
+            Result result = runConcurrently(lineIds.subList(0, distinctLines), (lineId, threadNumber, deadline, conflicts) -> {
+                final Long spareStation = spareStations.get(threadNumber);
+                long operations = 0L;
+                while (System.currentTimeMillis() < deadline && appendToTail(lineId, spareStation, deadline, conflicts)) {
+                    deleteTail(lineId, spareStation, conflicts);
+                    operations += 2;
+                }
+                return operations;
+            });
+            result.print("section writes", distinctLines);
+            assertThat(result.operations).isPositive();
+        }
+    }
+
+    private boolean appendToTail(final Long lineId, final Long spareStation, final long deadline, final LongAdder conflicts) {
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                lineComponent.appendSection(lineId, SectionCreateRequest.builder()
+                        .upStationId(findTailStationId(lineId))
+                        .downStationId(spareStation)
+                        .distance(1L)
+                        .build());
+                return true;
+            } catch (SubwayException e) {
+                conflicts.increment();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 붙인 예비역 뒤로 다른 스레드가 구간을 붙였다면 그 스레드가 뗄 때까지 재시도한다.
+     * 붙인 구간은 마감 시간이 지나도 반드시 떼어, 다음 측정이 깨끗한 노선에서 시작하게 한다.
+     */
+    private void deleteTail(final Long lineId, final Long spareStation, final LongAdder conflicts) {
+        while (true) {
+            try {
+                lineComponent.deleteSectionByStationId(SectionDeleteRequest.builder()
+                        .lineId(lineId)
+                        .stationId(spareStation)
+                        .build());
+                return;
+            } catch (SubwayException e) {
+                conflicts.increment();
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private Long findTailStationId(final Long lineId) {
+        LineResponse line = networkSnapshotHolder.current().findLine(lineId).orElseThrow();
+        return line.getStations().get(line.getStations().size() - 1).getId();
+    }
+
+    private Result runConcurrently(final List<Long> lineIds, final Worker worker) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        LongAdder operations = new LongAdder();
+        LongAdder conflicts = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(THREADS);
+        long startedAt = System.nanoTime();
+        long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+        for (int thread = 0; thread < THREADS; thread++) {
+            final Long lineId = lineIds.get(thread % lineIds.size());
+            final int threadNumber = thread;
+            executor.submit(() -> {
+                try {
+                    operations.add(worker.run(lineId, threadNumber, deadline, conflicts));
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        finished.await(DURATION_MILLIS * 10, TimeUnit.MILLISECONDS);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdownNow();
+        return new Result(operations.sum(), conflicts.sum(), elapsedNanos);
+    }
+
+    private List<Long> createLines(final int count) {
+        List<String> names = IntStream.range(0, count * 2)
+                .mapToObj(i -> i + "역")
+                .collect(Collectors.toList());
+        List<Long> stationIds = StationApi.createStationsByNames(names).jsonPath().getList("id", Long.class);
+        List<Long> lineIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ExtractableResponse<Response> response = LineApi.createLine(RequestGenerator.generateLineCreateRequest(
+                    i + "호선", "bg-blue-600", stationIds.get(i * 2), stationIds.get(i * 2 + 1), 10L));
+            lineIds.add(response.jsonPath().getLong("id"));
+        }
+        return lineIds;
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        long run(Long lineId, int threadNumber, long deadline, LongAdder conflicts);
+    }
+
+    private static class Result {
+        private final long operations;
+        private final long conflicts;
+        private final long elapsedNanos;
+
+        private Result(final long operations, final long conflicts, final long elapsedNanos) {
+            this.operations = operations;
+            this.conflicts = conflicts;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private void print(final String operation, final int distinctLines) {
+            System.out.printf("[contention-benchmark] %d threads, %d lines: %,.0f %s/s, %,d conflicts%n",
+                    THREADS, distinctLines, operations * 1_000_000_000.0 / elapsedNanos, operation, conflicts);
+        }
+    }
+}
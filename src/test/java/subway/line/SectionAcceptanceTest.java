@@ -8,11 +8,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.annotation.DirtiesContext;
 import subway.ApiTest;
+import subway.line.service.LineComponent;
 import subway.station.StationApi;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
@@ -58,6 +66,7 @@ public class SectionAcceptanceTest extends ApiTest {
     /**
      * When 기본 노선의 구간이 있을 때
      * Then 노선의 하행역을 새로운 구간의 상행역으로 지정한 구간을 추가 한다.
+     * Then 노선 조회 시 구간 순서대로 중복 없이 역 목록을 응답 받는다.
      */
     @DisplayName("노선의 구간에 새로운 구간을 추가 한다.")
     @Test
@@ -71,9 +80,115 @@ public class SectionAcceptanceTest extends ApiTest {
         Map<String, String> sectionRequest = RequestGenerator.generateSectionCreateRequest(stationIds.get(1), stationIds.get(2), 10L);
         final String appendLocation = location + "/sections";
         ExtractableResponse<Response> response = LineApi.appendSectionInLine(appendLocation, sectionRequest);
-        LineApi.retrieveLineByLocation(location);
+        ExtractableResponse<Response> retrieveLineResponse = LineApi.retrieveLineByLocation(location);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(retrieveLineResponse.jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(1), stationIds.get(2));
+    }
+
+    /**
+     * When 기본 노선의 구간이 있을 때
+     * Then 노선의 하행역부터 이어지는 여러 구간을 한 번에 추가 한다.
+     * Then 노선 조회 시 구간 순서대로 중복 없이 역 목록을 응답 받는다.
+     */
+    @DisplayName("노선의 구간에 이어진 여러 구간을 한 번에 추가 한다.")
+    @Test
+    void appendSectionsToSection() {
+        // when
+        final String location = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1))).header("Location");
+
+        // then
+        List<Map<String, String>> sections = List.of(
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(1), stationIds.get(2), 10L),
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(2), stationIds.get(3), 10L),
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(3), stationIds.get(4), 10L));
+        ExtractableResponse<Response> response = LineApi.appendSectionsInLine(location + "/sections", sections);
+        ExtractableResponse<Response> retrieveLineResponse = LineApi.retrieveLineByLocation(location);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(retrieveLineResponse.jsonPath().getList("stations.id", Long.class))
+                .containsExactlyElementsOf(stationIds.subList(0, 5));
+    }
+
+    /**
+     * Given 역 300개와 첫 구간만 가진 노선을 만들고
+     * When 나머지 298개 구간을 한 번에 추가하면
+     * Then 300개 역이 순서대로 이어진 노선이 만들어진다
+     */
+    @DisplayName("300개 역의 노선을 한 번의 요청으로 잇는다.")
+    @Test
+    void appendLongSectionChain() {
+        // given
+        List<Long> routeIds = StationApi.createStationsByNames(IntStream.range(0, 300)
+                        .mapToObj(i -> "노선" + i + "역")
+                        .collect(Collectors.toList()))
+                .jsonPath().getList("id", Long.class);
+        final String location = LineApi.createLine(RequestGenerator.이호선_요청_만들기(routeIds.get(0), routeIds.get(1))).header("Location");
+
+        // when
+        List<Map<String, String>> sections = IntStream.range(1, routeIds.size() - 1)
+                .mapToObj(i -> RequestGenerator.generateSectionCreateRequest(routeIds.get(i), routeIds.get(i + 1), 10L))
+                .collect(Collectors.toList());
+        ExtractableResponse<Response> response = LineApi.appendSectionsInLine(location + "/sections", sections);
 
+        // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(LineApi.retrieveLineByLocation(location).jsonPath().getList("stations.id", Long.class))
+                .containsExactlyElementsOf(routeIds);
+    }
+
+    /**
+     * Given 기본 구간의 노선을 생성하고
+     * When 중간에 끊어진 구간 목록을 한 번에 추가하면
+     * Then 구간이 하나도 등록되지 않는다.
+     */
+    @DisplayName("끊어진 구간 목록은 한 번에 추가 할 수 없다.")
+    @Test
+    void appendBrokenSections() {
+        // given
+        final String location = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1))).header("Location");
+
+        // when
+        List<Map<String, String>> sections = List.of(
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(1), stationIds.get(2), 10L),
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(3), stationIds.get(4), 10L));
+        ExtractableResponse<Response> response = LineApi.appendSectionsInLine(location + "/sections", sections);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(LineApi.retrieveLineByLocation(location).jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(1));
+    }
+
+    /**
+     * Given 기본 구간의 노선을 생성하고
+     * When 상행역이 빠진 구간이 섞인 목록이나 허용 개수를 넘는 구간 목록을 한 번에 추가하면
+     * Then 구간이 하나도 등록되지 않는다.
+     */
+    @DisplayName("상행역이 빠지거나 허용 개수를 넘는 구간 목록은 한 번에 추가 할 수 없다.")
+    @Test
+    void appendInvalidSectionBatch() {
+        // given
+        final String location = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1))).header("Location");
+
+        // when
+        Map<String, String> sectionWithoutUpStation = new HashMap<>(
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(2), stationIds.get(3), 10L));
+        sectionWithoutUpStation.remove("upStationId");
+        ExtractableResponse<Response> missingStationResponse = LineApi.appendSectionsInLine(location + "/sections", List.of(
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(1), stationIds.get(2), 10L),
+                sectionWithoutUpStation));
+        List<Map<String, String>> oversizedSections = LongStream.rangeClosed(1, LineComponent.MAX_BATCH_SIZE + 1)
+                .mapToObj(i -> RequestGenerator.generateSectionCreateRequest(i, i + 1, 10L))
+                .collect(Collectors.toList());
+        ExtractableResponse<Response> oversizedResponse = LineApi.appendSectionsInLine(location + "/sections", oversizedSections);
+
+        // then
+        assertThat(missingStationResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(oversizedResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(LineApi.retrieveLineByLocation(location).jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(1));
     }
 
     /**
@@ -116,6 +231,36 @@ public class SectionAcceptanceTest extends ApiTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
 
+    /**
+     * Given 1개의 구간을 가진 노선이 있고
+     * When 노선의 하행역을 상행역으로 하는 서로 다른 구간을 동시에 추가하면
+     * Then 하나의 구간만 추가되고
+     * Then 노선은 3개의 역을 가진다
+     */
+    @DisplayName("같은 노선에 동시에 구간을 추가하면 하나만 추가된다.")
+    @Test
+    void appendSectionsConcurrently() {
+        // given
+        Map<String, String> stringStringMap = RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1));
+        final String location = LineApi.createLine(stringStringMap).header("Location");
+        final String appendLocation = location + "/sections";
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Integer>> responses = stationIds.subList(2, 6).stream()
+                .map(downStationId -> CompletableFuture.supplyAsync(() -> LineApi.appendSectionInLine(appendLocation,
+                        RequestGenerator.generateSectionCreateRequest(stationIds.get(1), downStationId, 10L)).statusCode(), executor))
+                .collect(Collectors.toList());
+        List<Integer> statusCodes = responses.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        executor.shutdown();
+
+        // then
+        assertThat(statusCodes).containsOnlyOnce(HttpStatus.OK.value());
+
+        // then
+        ExtractableResponse<Response> retrieveLineResponse = LineApi.retrieveLineByLocation(location);
+        assertThat(retrieveLineResponse.jsonPath().getList("stations.id", Long.class)).hasSize(3);
+    }
 
     // DELETE /lines/1/sections?stationId=2
 
@@ -0,0 +1,105 @@
+package subway.line;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import subway.ApiTest;
+import subway.station.StationApi;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+import static subway.line.model.LineSections.SECTION_POSITION_GAP;
+
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("구간 위치")
+public class SectionPositionTest extends ApiTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Long> stationIds;
+    private Long lineId;
+    private String sectionsLocation;
+
+    /**
+     * 강남역 --- 역삼역 --- 선릉역 --- 삼성역
+     */
+    @BeforeEach
+    void addLine() {
+        stationIds = StationApi.createStationsByNames(List.of("강남역", "역삼역", "선릉역", "삼성역", "종합운동장역"))
+                .jsonPath().getList("id", Long.class);
+        ExtractableResponse<Response> createResponse = LineApi.createLine(
+                RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1)));
+        lineId = createResponse.jsonPath().getLong("id");
+        sectionsLocation = createResponse.header("Location") + "/sections";
+        LineApi.appendSectionInLine(sectionsLocation,
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(1), stationIds.get(2), 10L));
+        LineApi.appendSectionInLine(sectionsLocation,
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(2), stationIds.get(3), 10L));
+    }
+
+    /**
+     * Given 구간 3개를 가진 노선에서
+     * When 마지막 구간을 삭제하고 새 구간을 추가하면
+     * Then 구간 위치는 남은 마지막 구간 뒤로 간격을 두고 매겨지고, 노선의 역은 위치 순서대로 조회된다
+     */
+    @DisplayName("구간 위치는 마지막 구간 뒤로 간격을 두고 매겨진다.")
+    @Test
+    void appendSectionAfterTailPosition() {
+        // when
+        LineApi.removeSectionInLine(sectionsLocation, stationIds.get(3));
+        LineApi.appendSectionInLine(sectionsLocation,
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(2), stationIds.get(4), 10L));
+
+        // then
+        assertThat(findPositions()).containsExactly(
+                SECTION_POSITION_GAP, 2 * SECTION_POSITION_GAP, 3 * SECTION_POSITION_GAP);
+        assertThat(LineApi.retrieveLineByLocation("/lines/" + lineId).jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(1), stationIds.get(2), stationIds.get(4));
+    }
+
+    /**
+     * Given 구간 3개를 가진 노선에서
+     * When 마지막 구간을 삭제하면
+     * Then 구간은 DELETE 한 번으로 지워지고, 남은 구간의 행은 고쳐 쓰지 않는다
+     */
+    @DisplayName("마지막 구간 삭제는 남은 구간을 다시 쓰지 않는다.")
+    @Test
+    void removeTailSectionWithSingleDelete() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        ExtractableResponse<Response> response = LineApi.removeSectionInLine(sectionsLocation, stationIds.get(3));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1L);
+    }
+
+    private List<Long> findPositions() {
+        return entityManager.createQuery(
+                        "select s.position from Section s where s.line.id = :lineId order by s.position", Long.class)
+                .setParameter("lineId", lineId)
+                .getResultList();
+    }
+}
@@ -0,0 +1,52 @@
+package subway.load;
+
+import java.util.Arrays;
+
+/**
+ * 한 스레드가 기록하는 지연 시간 목록. 스레드마다 하나씩 쓰고 끝난 뒤 합쳐서 백분위를 구한다.
+ */
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(final long latencyNanos, final boolean success) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public LatencyRecorder merge(final LatencyRecorder other) {
+        LatencyRecorder merged = new LatencyRecorder();
+        merged.latencies = Arrays.copyOf(latencies, size + other.size);
+        System.arraycopy(other.latencies, 0, merged.latencies, size, other.size);
+        merged.size = size + other.size;
+        merged.errors = errors + other.errors;
+        return merged;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * 기록된 지연 시간의 백분위 값을 마이크로초로 돌려준다. 호출 시 내부 배열을 정렬한다.
+     */
+    public double percentileMicros(final double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, size);
+        int index = (int) Math.min(size - 1, Math.ceil(percentile / 100.0 * size) - 1);
+        return latencies[Math.max(index, 0)] / 1_000.0;
+    }
+}
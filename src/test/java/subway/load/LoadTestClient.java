@@ -0,0 +1,86 @@
+package subway.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트에서 여러 스레드가 함께 쓰는 HTTP 클라이언트.
+ */
+public class LoadTestClient {
+
+    private static final String JSON = "application/json";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUri;
+
+    public LoadTestClient(final String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    public HttpResponse<String> get(final String path) {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + path)).GET());
+    }
+
+    public HttpResponse<String> post(final String path, final Object body) {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + path))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body))));
+    }
+
+    public HttpResponse<String> delete(final String path) {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + path)).DELETE());
+    }
+
+    /**
+     * 응답 상태가 기대한 값이 아니면 응답 본문과 함께 실패한다.
+     */
+    public HttpResponse<String> expect(final HttpResponse<String> response, final int status) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException(response.request().method() + " " + response.uri()
+                    + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    public List<Map<String, Object>> readList(final HttpResponse<String> response) {
+        try {
+            return objectMapper.readValue(response.body(), new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(response.body(), e);
+        }
+    }
+
+    private HttpResponse<String> send(final HttpRequest.Builder request) {
+        try {
+            return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(final Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
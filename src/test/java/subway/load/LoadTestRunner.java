@@ -0,0 +1,227 @@
+package subway.load;
+
+import subway.line.service.LineComponent;
+import subway.station.service.StationService;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 실행 중인 서버에 가상 노선도를 등록하고, 정해진 동시성으로 읽기/쓰기 요청을 섞어 보낸 뒤
+ * 요청 종류별 처리량과 지연 시간 백분위를 출력한다.
+ */
+public class LoadTestRunner {
+
+    enum Operation {
+        LIST_LINES, GET_LINE, LIST_STATIONS, FIND_PATH, APPEND_AND_DELETE_SECTION
+    }
+
+    private final LoadTestClient client;
+    private final List<Long> stationIds = new ArrayList<>();
+    private final List<Long> lineIds = new ArrayList<>();
+    private final List<Long> lineTails = new ArrayList<>();
+
+    public LoadTestRunner(final String baseUri) {
+        this.client = new LoadTestClient(baseUri);
+    }
+
+    /**
+     * 역은 한 번에 생성할 수 있는 개수씩, 구간은 한 번에 추가할 수 있는 개수씩 나눠 일괄 요청으로 등록한다.
+     */
+    public void seed(final SyntheticNetwork network) {
+        List<String> names = network.getStationNames();
+        for (int from = 0; from < names.size(); from += StationService.MAX_BATCH_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + StationService.MAX_BATCH_SIZE, names.size()));
+            HttpResponse<String> stationsResponse = client.expect(client.post("/stations/batch", Map.of("names", chunk)), 201);
+            client.readList(stationsResponse).forEach(station -> stationIds.add(((Number) station.get("id")).longValue()));
+        }
+
+        for (SyntheticNetwork.SyntheticLine line : network.getLines()) {
+            List<Long> route = line.getStationIndexes().stream().map(stationIds::get).collect(Collectors.toList());
+            HttpResponse<String> lineResponse = client.expect(client.post("/lines", Map.of(
+                    "name", line.getName(),
+                    "color", line.getColor(),
+                    "upStationId", route.get(0),
+                    "downStationId", route.get(1),
+                    "distance", line.getDistances().get(0))), 201);
+            String location = lineResponse.headers().firstValue("Location").orElseThrow();
+            List<Map<String, Object>> sections = IntStream.range(1, route.size() - 1)
+                    .mapToObj(i -> section(route.get(i), route.get(i + 1), line.getDistances().get(i)))
+                    .collect(Collectors.toList());
+            for (int from = 0; from < sections.size(); from += LineComponent.MAX_BATCH_SIZE) {
+                List<Map<String, Object>> chunk = sections.subList(from, Math.min(from + LineComponent.MAX_BATCH_SIZE, sections.size()));
+                client.expect(client.post(location + "/sections/batch", Map.of("sections", chunk)), 200);
+            }
+            lineIds.add(Long.parseLong(location.substring(location.lastIndexOf('/') + 1)));
+            lineTails.add(route.get(route.size() - 1));
+        }
+    }
+
+    /**
+     * 워커마다 서로 다른 노선에만 쓰기를 보내므로, 같은 노선의 하행 종점을 두 워커가 동시에 바꾸지 않는다.
+     * 처리량은 설정한 시간이 아니라 첫 워커 시작부터 마지막 워커 종료까지 실제로 잰 시간으로 나눈다.
+     */
+    public Result run(final int concurrency,
+                      final long durationMillis,
+                      final double writeRatio) throws Exception {
+        List<Long> spareStations = createSpareStations(concurrency);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            long startedAt = System.nanoTime();
+            long deadline = System.currentTimeMillis() + durationMillis;
+            List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int worker = 0; worker < concurrency; worker++) {
+                futures.add(executor.submit(worker(worker, concurrency, spareStations.get(worker), deadline, writeRatio)));
+            }
+            Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+                future.get().forEach((operation, recorder) -> merged.merge(operation, recorder, LatencyRecorder::merge));
+            }
+            return new Result(merged, System.nanoTime() - startedAt);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static void report(final Result result) {
+        double seconds = result.getElapsedNanos() / 1_000_000_000.0;
+        System.out.printf("[load-test] measured over %.2f s%n", seconds);
+        System.out.printf("[load-test] %-26s %10s %10s %8s %10s %10s %10s%n",
+                "operation", "requests", "req/s", "errors", "p50(us)", "p99(us)", "p999(us)");
+        result.getRecorders().forEach((operation, recorder) -> System.out.printf("[load-test] %-26s %10d %10.1f %8d %10.0f %10.0f %10.0f%n",
+                operation, recorder.count(), recorder.count() / seconds, recorder.errors(),
+                recorder.percentileMicros(50), recorder.percentileMicros(99), recorder.percentileMicros(99.9)));
+    }
+
+    private List<Long> createSpareStations(final int count) {
+        List<String> names = IntStream.range(0, count)
+                .mapToObj(i -> "부하" + i + "역")
+                .collect(Collectors.toList());
+        return client.readList(client.expect(client.post("/stations/batch", Map.of("names", names)), 201)).stream()
+                .map(station -> ((Number) station.get("id")).longValue())
+                .collect(Collectors.toList());
+    }
+
+    private Callable<Map<Operation, LatencyRecorder>> worker(final int worker,
+                                                            final int concurrency,
+                                                            final Long spareStation,
+                                                            final long deadline,
+                                                            final double writeRatio) {
+        return () -> {
+            Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+            List<Integer> ownedLines = IntStream.range(0, lineIds.size())
+                    .filter(index -> index % concurrency == worker)
+                    .boxed()
+                    .collect(Collectors.toList());
+            Set<Integer> appendedLines = new HashSet<>();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.currentTimeMillis() < deadline) {
+                Operation operation = nextOperation(random, writeRatio, !ownedLines.isEmpty());
+                long startedAt = System.nanoTime();
+                boolean success = executeSafely(operation, random, ownedLines, appendedLines, spareStation);
+                recorders.computeIfAbsent(operation, key -> new LatencyRecorder())
+                        .record(System.nanoTime() - startedAt, success);
+            }
+            return recorders;
+        };
+    }
+
+    private Operation nextOperation(final ThreadLocalRandom random, final double writeRatio, final boolean canWrite) {
+        if (canWrite && random.nextDouble() < writeRatio) {
+            return Operation.APPEND_AND_DELETE_SECTION;
+        }
+        Operation[] reads = {Operation.LIST_LINES, Operation.GET_LINE, Operation.LIST_STATIONS, Operation.FIND_PATH};
+        return reads[random.nextInt(reads.length)];
+    }
+
+    private boolean executeSafely(final Operation operation,
+                                  final ThreadLocalRandom random,
+                                  final List<Integer> ownedLines,
+                                  final Set<Integer> appendedLines,
+                                  final Long spareStation) {
+        try {
+            return execute(operation, random, ownedLines, appendedLines, spareStation);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private boolean execute(final Operation operation,
+                            final ThreadLocalRandom random,
+                            final List<Integer> ownedLines,
+                            final Set<Integer> appendedLines,
+                            final Long spareStation) {
+        switch (operation) {
+            case LIST_LINES:
+                return isSuccessful(client.get("/lines"));
+            case GET_LINE:
+                return isSuccessful(client.get("/lines/" + lineIds.get(random.nextInt(lineIds.size()))));
+            case LIST_STATIONS:
+                return isSuccessful(client.get("/stations"));
+            case FIND_PATH:
+                Long source = stationIds.get(random.nextInt(stationIds.size()));
+                Long target = stationIds.get(random.nextInt(stationIds.size()));
+                HttpResponse<String> path = client.get("/paths?source=" + source + "&target=" + target);
+                return isSuccessful(path) || source.equals(target) || path.statusCode() == 400;
+            default:
+                return appendAndDeleteSection(ownedLines.get(random.nextInt(ownedLines.size())), appendedLines, spareStation);
+        }
+    }
+
+    /**
+     * 예비역을 하행 종점에 붙였다가 다시 뗀다. 떼는 요청이 실패하면 노선을 기억해 두었다가,
+     * 다음 쓰기에서 붙이기를 건너뛰고 떼기부터 다시 시도해 노선이 예비역에 묶여 있지 않게 한다.
+     */
+    private boolean appendAndDeleteSection(final int lineIndex, final Set<Integer> appendedLines, final Long spareStation) {
+        String sectionsPath = "/lines/" + lineIds.get(lineIndex) + "/sections";
+        if (!appendedLines.contains(lineIndex)) {
+            if (!isSuccessful(client.post(sectionsPath, section(lineTails.get(lineIndex), spareStation, 1L)))) {
+                return false;
+            }
+            appendedLines.add(lineIndex);
+        }
+        if (!isSuccessful(client.delete(sectionsPath + "?stationId=" + spareStation))) {
+            return false;
+        }
+        appendedLines.remove(lineIndex);
+        return true;
+    }
+
+    private Map<String, Object> section(final Long upStationId, final Long downStationId, final Long distance) {
+        return Map.of("upStationId", upStationId, "downStationId", downStationId, "distance", distance);
+    }
+
+    private boolean isSuccessful(final HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    public static class Result {
+        private final Map<Operation, LatencyRecorder> recorders;
+        private final long elapsedNanos;
+
+        public Result(final Map<Operation, LatencyRecorder> recorders, final long elapsedNanos) {
+            this.recorders = recorders;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public Map<Operation, LatencyRecorder> getRecorders() {
+            return recorders;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package subway.load;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 노선 수, 역 수, 환승 비율로 가상 노선도를 만든다. 같은 seed 는 항상 같은 노선도를 만든다.
+ * 각 노선은 아직 쓰이지 않은 역을 차례로 사용하고, transferRatio 확률로 다른 노선이 이미 쓴 역을 환승역으로 공유한다.
+ */
+public class NetworkGenerator {
+
+    private static final long MIN_DISTANCE = 1L;
+    private static final long MAX_DISTANCE = 20L;
+    private static final List<String> COLORS = List.of(
+            "bg-blue-600", "bg-green-600", "bg-orange-600", "bg-sky-600", "bg-purple-600", "bg-amber-600", "bg-red-600");
+
+    private final Random random;
+
+    public NetworkGenerator(final long seed) {
+        this.random = new Random(seed);
+    }
+
+    public SyntheticNetwork generate(final int lineCount, final int stationCount, final double transferRatio) {
+        if (lineCount < 1 || stationCount < 2) {
+            throw new IllegalArgumentException("노선은 1개, 역은 2개 이상이어야 합니다.");
+        }
+        List<String> stationNames = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stationNames.add("가상" + i + "역");
+        }
+
+        int stationsPerLine = Math.max(2, (int) Math.round(stationCount * (1 + transferRatio) / lineCount));
+        List<Integer> usedStations = new ArrayList<>();
+        int nextFreshStation = 0;
+        List<SyntheticNetwork.SyntheticLine> lines = new ArrayList<>(lineCount);
+        for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+            Set<Integer> stationsInLine = new HashSet<>();
+            List<Integer> route = new ArrayList<>(stationsPerLine);
+            while (route.size() < Math.min(stationsPerLine, stationCount)) {
+                int station;
+                if (!usedStations.isEmpty() && random.nextDouble() < transferRatio) {
+                    station = usedStations.get(random.nextInt(usedStations.size()));
+                } else if (nextFreshStation < stationCount) {
+                    station = nextFreshStation++;
+                    usedStations.add(station);
+                } else {
+                    station = random.nextInt(stationCount);
+                }
+                if (stationsInLine.add(station)) {
+                    route.add(station);
+                }
+            }
+            lines.add(new SyntheticNetwork.SyntheticLine(
+                    "가상" + lineIndex + "호선",
+                    COLORS.get(lineIndex % COLORS.size()),
+                    route,
+                    distances(route.size() - 1)));
+        }
+        return new SyntheticNetwork(stationNames, lines);
+    }
+
+    private List<Long> distances(final int sectionCount) {
+        List<Long> distances = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            distances.add(MIN_DISTANCE + (long) random.nextInt((int) (MAX_DISTANCE - MIN_DISTANCE + 1)));
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,50 @@
+package subway.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 노선도를 등록하고 읽기/쓰기 요청을 섞어 보내는 부하 테스트. ./gradlew loadTest 로 실행하며,
+ * -Pload.lines=200 -Pload.stations=5000 처럼 노선도 크기와 동시성을 바꿀 수 있다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@DisplayName("가상 노선도 부하 테스트")
+public class NetworkLoadTest {
+
+    private static final int LINES = Integer.getInteger("load.lines", 20);
+    private static final int STATIONS = Integer.getInteger("load.stations", 400);
+    private static final double TRANSFER_RATIO = Double.parseDouble(System.getProperty("load.transferRatio", "0.1"));
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 8);
+    private static final long DURATION_MILLIS = Long.getLong("load.durationSeconds", 10L) * 1_000L;
+    private static final double WRITE_RATIO = Double.parseDouble(System.getProperty("load.writeRatio", "0.01"));
+    private static final long SEED = Long.getLong("load.seed", 20220701L);
+
+    @LocalServerPort
+    private int port;
+
+    @DisplayName("가상 노선도에 읽기/쓰기 요청을 섞어 보낸다.")
+    @Test
+    void runMixedTraffic() throws Exception {
+        SyntheticNetwork network = new NetworkGenerator(SEED).generate(LINES, STATIONS, TRANSFER_RATIO);
+        System.out.printf("[load-test] %d lines, %d stations, %d transfer stations, concurrency %d%n",
+                network.getLines().size(), network.getStationNames().size(), network.getTransferStationsCount(), CONCURRENCY);
+
+        LoadTestRunner runner = new LoadTestRunner("http://localhost:" + port);
+        long seedStartedAt = System.nanoTime();
+        runner.seed(network);
+        System.out.printf("[load-test] seeded in %.1f s%n", (System.nanoTime() - seedStartedAt) / 1_000_000_000.0);
+
+        LoadTestRunner.Result result = runner.run(CONCURRENCY, DURATION_MILLIS, WRITE_RATIO);
+        LoadTestRunner.report(result);
+
+        assertThat(result.getRecorders()).isNotEmpty();
+    }
+}
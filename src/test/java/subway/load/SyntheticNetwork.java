@@ -0,0 +1,67 @@
+package subway.load;
+
+import java.util.List;
+
+/**
+ * 부하 테스트용 가상 노선도. 역은 이름 목록의 인덱스로, 노선은 역 인덱스의 순서와 구간 거리로 표현한다.
+ */
+public class SyntheticNetwork {
+
+    private final List<String> stationNames;
+    private final List<SyntheticLine> lines;
+
+    public SyntheticNetwork(final List<String> stationNames, final List<SyntheticLine> lines) {
+        this.stationNames = stationNames;
+        this.lines = lines;
+    }
+
+    public List<String> getStationNames() {
+        return stationNames;
+    }
+
+    public List<SyntheticLine> getLines() {
+        return lines;
+    }
+
+    public static class SyntheticLine {
+        private final String name;
+        private final String color;
+        private final List<Integer> stationIndexes;
+        private final List<Long> distances;
+
+        public SyntheticLine(final String name, final String color, final List<Integer> stationIndexes, final List<Long> distances) {
+            this.name = name;
+            this.color = color;
+            this.stationIndexes = stationIndexes;
+            this.distances = distances;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getColor() {
+            return color;
+        }
+
+        public List<Integer> getStationIndexes() {
+            return stationIndexes;
+        }
+
+        public List<Long> getDistances() {
+            return distances;
+        }
+    }
+
+    public int getTransferStationsCount() {
+        int[] lineCounts = new int[stationNames.size()];
+        lines.forEach(line -> line.getStationIndexes().forEach(index -> lineCounts[index]++));
+        int transfers = 0;
+        for (int lineCount : lineCounts) {
+            if (lineCount > 1) {
+                transfers++;
+            }
+        }
+        return transfers;
+    }
+}
@@ -0,0 +1,55 @@
+package subway.metrics;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import subway.ApiTest;
+import subway.line.LineApi;
+import subway.line.RequestGenerator;
+import subway.station.StationApi;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@DisplayName("지표 조회 기능")
+public class MetricsAcceptanceTest extends ApiTest {
+
+    /**
+     * Given 지하철 노선을 생성하고 조회한 뒤
+     * When 지표를 조회하면
+     * Then 엔드포인트, 노선 컴포넌트, 저장소 호출별 지연 시간 분포와 요청당 쿼리 수를 응답 받는다
+     */
+    @DisplayName("Prometheus 형식의 지표를 조회한다.")
+    @Test
+    void retrieveMetrics() {
+        // given
+        List.of("강남역", "역삼역").forEach(StationApi::createStationByName);
+        List<Long> stationIds = StationApi.retrieveStations().jsonPath().getList("id", Long.class);
+        LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1)));
+        LineApi.retrieveLines();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when().get("/metrics")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.body().asString())
+                .contains("http_server_requests_seconds{")
+                .contains("quantile=\"0.99\"")
+                .contains("subway_line_component_seconds_count")
+                .contains("spring_data_repository_invocations_seconds_count")
+                .contains("hibernate_statements_per_request_count")
+                .contains("station_cache_requests_total")
+                .contains("response_cache_coalesced_total");
+    }
+}
@@ -0,0 +1,107 @@
+package subway.network;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.ApiTest;
+import subway.line.LineApi;
+import subway.line.RequestGenerator;
+import subway.line.dto.LineResponse;
+import subway.line.repository.LineRepository;
+import subway.station.StationApi;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+/**
+ * 노선 목록을 엔티티로 읽어 응답으로 옮기는 경우와 프로젝션으로 바로 읽는 경우의 시간과 할당량을 비교한다.
+ * ./gradlew benchmark -Pbenchmark.lines=100 -Pbenchmark.sectionsPerLine=30 처럼 실행한다.
+ */
+@Tag("benchmark")
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@DisplayName("노선도 스냅샷 로딩 벤치마크")
+public class NetworkSnapshotLoadBenchmarkTest extends ApiTest {
+
+    private static final int LINES = Integer.getInteger("benchmark.lines", 30);
+    private static final int SECTIONS_PER_LINE = Integer.getInteger("benchmark.sectionsPerLine", 20);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 50);
+
+    @Autowired
+    private NetworkSnapshotLoader networkSnapshotLoader;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DisplayName("엔티티 로딩과 프로젝션 로딩을 비교한다.")
+    @Test
+    void compareEntityAndProjectionLoading() throws JsonProcessingException {
+        createNetwork();
+        Supplier<List<LineResponse>> entityPath = () -> transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return lineRepository.findAllWithSections().stream()
+                    .map(LineResponse::from)
+                    .collect(Collectors.toList());
+        });
+        Supplier<List<LineResponse>> projectionPath = () -> networkSnapshotLoader.loadAll().getLines();
+
+        assertThat(objectMapper.writeValueAsString(projectionPath.get()))
+                .isEqualTo(objectMapper.writeValueAsString(entityPath.get()));
+
+        measure("entity", entityPath);
+        measure("projection", projectionPath);
+        measure("entity", entityPath);
+        measure("projection", projectionPath);
+    }
+
+    private void createNetwork() {
+        List<String> names = IntStream.range(0, LINES * (SECTIONS_PER_LINE + 1))
+                .mapToObj(i -> i + "역")
+                .collect(Collectors.toList());
+        List<Long> stationIds = StationApi.createStationsByNames(names).jsonPath().getList("id", Long.class);
+        for (int line = 0; line < LINES; line++) {
+            List<Long> stations = stationIds.subList(line * (SECTIONS_PER_LINE + 1), (line + 1) * (SECTIONS_PER_LINE + 1));
+            ExtractableResponse<Response> createResponse = LineApi.createLine(
+                    RequestGenerator.generateLineCreateRequest(line + "호선", "bg-red-600", stations.get(0), stations.get(1), 10L));
+            final String appendLocation = createResponse.header("Location") + "/sections";
+            for (int i = 1; i < SECTIONS_PER_LINE; i++) {
+                LineApi.appendSectionInLine(appendLocation,
+                        RequestGenerator.generateSectionCreateRequest(stations.get(i), stations.get(i + 1), 10L));
+            }
+        }
+    }
+
+    private void measure(final String mode, final Supplier<List<LineResponse>> loader) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(loader.get()).hasSize(LINES);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("[snapshot-benchmark] %-10s %d lines x %d sections: %,.3f ms/load, %,d KB/load%n",
+                mode, LINES, SECTIONS_PER_LINE, elapsed / 1_000_000.0 / ITERATIONS, allocated / 1024 / ITERATIONS);
+    }
+}
@@ -0,0 +1,156 @@
+package subway.path;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import subway.ApiTest;
+import subway.line.LineApi;
+import subway.line.RequestGenerator;
+import subway.path.model.SectionEdge;
+import subway.path.service.PathGraphHolder;
+import subway.path.service.PathGraphLoader;
+import subway.station.StationApi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@DisplayName("지하철 경로 조회 기능")
+public class PathAcceptanceTest extends ApiTest {
+
+    @Autowired
+    private PathGraphHolder pathGraphHolder;
+
+    @Autowired
+    private PathGraphLoader pathGraphLoader;
+
+    public List<Long> stationIds = new ArrayList<>();
+    private String shortcutLineLocation;
+
+    /**
+     * 강남역 --10-- 역삼역 --10-- 선릉역   (2호선)
+     *   \                        /
+     *    3 --- 양재역 ------- 4           (신분당선)
+     */
+    @BeforeEach
+    void addLines() {
+        List.of("강남역", "역삼역", "선릉역", "양재역").forEach(StationApi::createStationByName);
+        ExtractableResponse<Response> response = StationApi.retrieveStations();
+        stationIds = response.body().jsonPath().getList("id", Long.class);
+
+        String greenLineLocation = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1)))
+                .header("Location");
+        LineApi.appendSectionInLine(greenLineLocation + "/sections",
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(1), stationIds.get(2), 10L));
+
+        shortcutLineLocation = LineApi.createLine(RequestGenerator.generateLineCreateRequest("신분당선", "bg-red-600", stationIds.get(0), stationIds.get(3), 3L))
+                .header("Location");
+        LineApi.appendSectionInLine(shortcutLineLocation + "/sections",
+                RequestGenerator.generateSectionCreateRequest(stationIds.get(3), stationIds.get(2), 4L));
+    }
+
+    /**
+     * When 출발역과 도착역으로 경로를 조회하면
+     * Then 가장 짧은 경로의 역 목록과 거리를 응답 받는다
+     */
+    @DisplayName("두 역 사이의 최단 경로를 조회한다.")
+    @Test
+    void findShortestPath() {
+        // when
+        ExtractableResponse<Response> response = PathApi.findPath(stationIds.get(0), stationIds.get(2));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(3), stationIds.get(2));
+        assertThat(response.jsonPath().getLong("distance")).isEqualTo(7L);
+    }
+
+    /**
+     * Given 최단 경로에 포함된 구간을 삭제하고
+     * When 같은 출발역과 도착역으로 경로를 조회하면
+     * Then 남아있는 구간으로 이루어진 경로를 응답 받는다
+     */
+    @DisplayName("구간이 삭제되면 바뀐 구간으로 경로를 조회한다.")
+    @Test
+    void findShortestPathAfterSectionDeleted() {
+        // given
+        LineApi.removeSectionInLine(shortcutLineLocation + "/sections", stationIds.get(2));
+
+        // when
+        ExtractableResponse<Response> response = PathApi.findPath(stationIds.get(0), stationIds.get(2));
+
+        // then
+        assertThat(response.jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(1), stationIds.get(2));
+        assertThat(response.jsonPath().getLong("distance")).isEqualTo(20L);
+    }
+
+    /**
+     * Given 구간을 삭제하기 전에 읽은 노선의 구간 목록이
+     * When 구간 삭제가 반영된 뒤에 늦게 도착해도
+     * Then 경로는 삭제 이후의 구간으로 조회된다
+     */
+    @DisplayName("늦게 도착한 이전 버전의 구간 목록은 경로 그래프에 반영하지 않는다.")
+    @Test
+    void ignoreStaleLineEdges() {
+        // given
+        final Long shortcutLineId = Long.parseLong(shortcutLineLocation.substring(shortcutLineLocation.lastIndexOf('/') + 1));
+        List<SectionEdge> staleEdges = pathGraphLoader.loadEdges(shortcutLineId);
+        LineApi.removeSectionInLine(shortcutLineLocation + "/sections", stationIds.get(2));
+
+        // when
+        pathGraphHolder.replaceLine(shortcutLineId, staleEdges);
+        ExtractableResponse<Response> response = PathApi.findPath(stationIds.get(0), stationIds.get(2));
+
+        // then
+        assertThat(response.jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(1), stationIds.get(2));
+        assertThat(response.jsonPath().getLong("distance")).isEqualTo(20L);
+    }
+
+    /**
+     * Given 노선을 삭제하기 전에 읽은 노선의 구간 목록이
+     * When 노선 삭제가 반영된 뒤에 늦게 도착해도
+     * Then 삭제된 노선의 구간은 경로에 쓰이지 않는다
+     */
+    @DisplayName("삭제된 노선의 이전 구간 목록은 경로 그래프에 되살리지 않는다.")
+    @Test
+    void ignoreEdgesOfDeletedLine() {
+        // given
+        final Long shortcutLineId = Long.parseLong(shortcutLineLocation.substring(shortcutLineLocation.lastIndexOf('/') + 1));
+        List<SectionEdge> staleEdges = pathGraphLoader.loadEdges(shortcutLineId);
+        LineApi.deleteLineByLocation(shortcutLineLocation);
+
+        // when
+        pathGraphHolder.replaceLine(shortcutLineId, staleEdges);
+        ExtractableResponse<Response> response = PathApi.findPath(stationIds.get(0), stationIds.get(2));
+
+        // then
+        assertThat(response.jsonPath().getList("stations.id", Long.class))
+                .containsExactly(stationIds.get(0), stationIds.get(1), stationIds.get(2));
+        assertThat(response.jsonPath().getLong("distance")).isEqualTo(20L);
+    }
+
+    /**
+     * When 출발역과 도착역을 같은 역으로 경로를 조회하면
+     * Then 경로를 조회할 수 없다
+     */
+    @DisplayName("출발역과 도착역이 같으면 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithSameStations() {
+        // when
+        ExtractableResponse<Response> response = PathApi.findPath(stationIds.get(0), stationIds.get(0));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,17 @@
+package subway.path;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class PathApi {
+
+    public static ExtractableResponse<Response> findPath(final Long source, final Long target) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+}
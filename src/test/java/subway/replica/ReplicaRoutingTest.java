@@ -0,0 +1,201 @@
+package subway.replica;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import subway.ApiTest;
+import subway.station.StationApi;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+@ActiveProfiles("replica")
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@DisplayName("읽기, 쓰기 데이터소스 분리")
+public class ReplicaRoutingTest extends ApiTest {
+
+    private static final String CURRENT_DATABASE = "select database()";
+    private static final long TIMEOUT_MILLIS = 5_000L;
+    private static final String CURRENT_DATABASE_PATH = "/replica-routing-test/database";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaSynchronizer replicaSynchronizer;
+
+    @AfterEach
+    void clearPin() {
+        ReadYourWrites.clear();
+    }
+
+    /**
+     * When 지하철역을 생성하면
+     * Then 복제본에도 지하철역이 생긴다
+     */
+    @DisplayName("주 데이터베이스에 쓴 내용이 복제본에 반영된다.")
+    @Test
+    void replicateWrites() throws InterruptedException {
+        // when
+        ExtractableResponse<Response> response = StationApi.createStationByName("강남역");
+
+        // then
+        awaitReplication();
+        Long stationId = response.jsonPath().getLong("id");
+        String replicatedName = new JdbcTemplate(replicaDataSource)
+                .queryForObject("select name from station where id = ?", String.class, stationId);
+        assertThat(replicatedName).isEqualTo("강남역");
+    }
+
+    /**
+     * Given 복제본이 주 데이터베이스를 따라잡았을 때
+     * When 읽기 전용 트랜잭션과 쓰기 트랜잭션에서 쿼리를 실행하면
+     * Then 읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션은 주 데이터베이스로 간다
+     */
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 보낸다.")
+    @Test
+    void routeReadOnlyTransactionsToReplica() throws InterruptedException {
+        // given
+        StationApi.createStationByName("강남역");
+        awaitReplication();
+        ReadYourWrites.clear();
+
+        // when, then
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+        assertThat(currentDatabase(false)).isEqualTo("PRIMARY");
+    }
+
+    /**
+     * Given 복제본이 아직 반영하지 않은 쓰기를 이 스레드가 했을 때
+     * When 읽기 전용 트랜잭션에서 쿼리를 실행하면
+     * Then 주 데이터베이스로 간다
+     */
+    @DisplayName("방금 쓴 내용을 복제본이 반영하기 전에는 읽기도 주 데이터베이스로 보낸다.")
+    @Test
+    void readYourWrites() {
+        // given
+        ReadYourWrites.pin(replicaSynchronizer.appliedSequence() + 1);
+
+        // when, then
+        assertThat(currentDatabase(true)).isEqualTo("PRIMARY");
+    }
+
+    /**
+     * Given 복제본이 주 데이터베이스를 따라잡았을 때
+     * When 복제본이 아직 반영하지 않은 순번의 쿠키를 실어 읽기 요청을 보내면
+     * Then 읽기 전용 트랜잭션이 주 데이터베이스로 가고, 쿠키 없는 요청은 복제본으로 간다
+     */
+    @DisplayName("복제 순번 쿠키를 실은 요청은 복제본이 반영하기 전까지 주 데이터베이스에서 읽는다.")
+    @Test
+    void readYourWritesThroughCookie() throws InterruptedException {
+        // given
+        StationApi.createStationByName("강남역");
+        awaitReplication();
+
+        // when, then
+        assertThat(currentDatabaseWithCookie(replicaSynchronizer.appliedSequence() + 1)).isEqualTo("PRIMARY");
+        assertThat(RestAssured.given().log().all()
+                .when().get(CURRENT_DATABASE_PATH)
+                .then().log().all()
+                .extract().asString()).isEqualTo("REPLICA");
+    }
+
+    /**
+     * Given 복제본 반영을 멈추고
+     * When 지하철역을 생성하면
+     * Then 응답에 그 쓰기의 복제 순번 쿠키가 붙는다
+     */
+    @DisplayName("복제본이 반영하지 않은 쓰기를 한 응답에는 복제 순번 쿠키를 붙인다.")
+    @Test
+    void issueSequenceCookie() throws InterruptedException {
+        // given
+        StationApi.createStationByName("강남역");
+        awaitReplication();
+        replicaSynchronizer.stop();
+
+        // when
+        ExtractableResponse<Response> response = StationApi.createStationByName("역삼역");
+
+        // then
+        assertThat(response.cookie(ReadYourWritesFilter.COOKIE_NAME))
+                .isEqualTo(Long.toString(replicaSynchronizer.committedSequence()));
+    }
+
+    private String currentDatabaseWithCookie(final long sequence) {
+        return RestAssured.given().log().all()
+                .cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(sequence))
+                .when().get(CURRENT_DATABASE_PATH)
+                .then().log().all()
+                .extract().asString();
+    }
+
+    private String currentDatabase(final boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+    }
+
+    private void awaitReplication() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (replicaSynchronizer.appliedSequence() < replicaSynchronizer.committedSequence()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(replicaSynchronizer.appliedSequence()).isEqualTo(replicaSynchronizer.committedSequence());
+    }
+
+    /**
+     * 필터를 거친 요청의 읽기 전용 트랜잭션이 어느 데이터베이스로 가는지 돌려준다. 이 테스트에서만 등록한다.
+     */
+    @TestConfiguration
+    static class CurrentDatabaseConfig {
+
+        @Bean
+        CurrentDatabaseController currentDatabaseController(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+            return new CurrentDatabaseController(jdbcTemplate, transactionManager);
+        }
+    }
+
+    @ResponseBody
+    @RequestMapping("/replica-routing-test")
+    static class CurrentDatabaseController {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnlyTransaction;
+
+        CurrentDatabaseController(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+            this.readOnlyTransaction.setReadOnly(true);
+        }
+
+        @GetMapping("/database")
+        public String currentDatabase() {
+            return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+        }
+    }
+}
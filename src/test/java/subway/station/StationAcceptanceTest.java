@@ -4,11 +4,18 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.annotation.DirtiesContext;
 import subway.ApiTest;
+import subway.line.LineApi;
+import subway.line.RequestGenerator;
+import subway.station.service.StationService;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
@@ -37,6 +44,77 @@ public class StationAcceptanceTest extends ApiTest {
         assertThat(retrieveStationsResponse.jsonPath().getList("name", String.class)).containsAnyOf(stationName);
     }
 
+    /**
+     * When 여러 지하철역을 한 번에 생성하면
+     * Then 지하철역이 모두 생성된다
+     * Then 지하철역 목록 조회 시 생성한 역을 모두 찾을 수 있다
+     */
+    @DisplayName("지하철역을 한 번에 여러 개 생성한다.")
+    @Test
+    void createStations() {
+        // when
+        final List<String> stationNames = List.of("강남역", "역삼역", "선릉역");
+        ExtractableResponse<Response> createStationsResponse = StationApi.createStationsByNames(stationNames);
+
+        // then
+        assertThat(createStationsResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(createStationsResponse.jsonPath().getList("name", String.class)).containsExactlyElementsOf(stationNames);
+
+        // then
+        ExtractableResponse<Response> retrieveStationsResponse = StationApi.retrieveStations();
+        assertThat(retrieveStationsResponse.jsonPath().getList("name", String.class)).containsAll(stationNames);
+    }
+
+    /**
+     * When 빈 이름 목록으로 지하철역을 한 번에 생성하면
+     * Then 지하철역이 생성되지 않는다
+     */
+    @DisplayName("빈 이름 목록으로는 지하철역을 한 번에 생성할 수 없다.")
+    @Test
+    void createStationsWithEmptyNames() {
+        // when
+        ExtractableResponse<Response> createStationsResponse = StationApi.createStationsByNames(List.of());
+
+        // then
+        assertThat(createStationsResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 공백이거나 너무 긴 이름이 섞인 목록으로 지하철역을 한 번에 생성하면
+     * Then 지하철역이 하나도 생성되지 않는다
+     */
+    @DisplayName("잘못된 이름이 섞인 목록으로는 지하철역을 한 번에 생성할 수 없다.")
+    @Test
+    void createStationsWithInvalidNames() {
+        // when
+        ExtractableResponse<Response> blankNameResponse = StationApi.createStationsByNames(Arrays.asList("강남역", " "));
+        ExtractableResponse<Response> nullNameResponse = StationApi.createStationsByNames(Arrays.asList("강남역", null));
+        ExtractableResponse<Response> longNameResponse = StationApi.createStationsByNames(List.of("강남역", "역".repeat(21)));
+
+        // then
+        assertThat(blankNameResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(nullNameResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(longNameResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(StationApi.retrieveStations().jsonPath().getList("id")).isEmpty();
+    }
+
+    /**
+     * When 허용 개수를 넘는 이름 목록으로 지하철역을 한 번에 생성하면
+     * Then 지하철역이 생성되지 않는다
+     */
+    @DisplayName("허용 개수를 넘는 이름 목록으로는 지하철역을 한 번에 생성할 수 없다.")
+    @Test
+    void createStationsOverBatchSize() {
+        // when
+        List<String> stationNames = IntStream.rangeClosed(1, StationService.MAX_BATCH_SIZE + 1)
+                .mapToObj(i -> i + "역")
+                .collect(Collectors.toList());
+        ExtractableResponse<Response> createStationsResponse = StationApi.createStationsByNames(stationNames);
+
+        // then
+        assertThat(createStationsResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     /**
      * Given 2개의 지하철역을 생성하고
      * When 지하철역 목록을 조회하면
@@ -59,6 +137,119 @@ public class StationAcceptanceTest extends ApiTest {
 
     }
 
+    /**
+     * Given 지하철역으로 노선을 만들었다가 노선과 지하철역을 삭제하고
+     * When 삭제한 지하철역으로 다시 노선을 생성하면
+     * Then 지하철역을 찾을 수 없어 노선이 생성되지 않는다
+     */
+    @DisplayName("삭제한 지하철역으로는 노선을 생성할 수 없다.")
+    @Test
+    void createLineWithRemovedStation() {
+        // given
+        List<Long> stationIds = StationApi.createStationsByNames(List.of("강남역", "역삼역")).jsonPath().getList("id", Long.class);
+        final String lineLocation = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1))).header("Location");
+        LineApi.deleteLineByLocation(lineLocation);
+        StationApi.deleteStationByLocation("/stations/" + stationIds.get(1));
+
+        // when
+        ExtractableResponse<Response> response = LineApi.createLine(RequestGenerator.이호선_요청_만들기(stationIds.get(0), stationIds.get(1)));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 지하철역 목록을 2개씩 나누어 조회하면
+     * Then 첫 페이지에서 2개의 지하철역과 다음 페이지 주소를 응답 받고
+     * Then 다음 페이지에서 나머지 1개의 지하철역을 응답 받는다
+     */
+    @DisplayName("지하철역 목록을 나누어 조회한다.")
+    @Test
+    void retrieveStationPages() {
+        // given
+        StationApi.createStationsByNames(List.of("강남역", "역삼역", "선릉역"));
+
+        // when
+        ExtractableResponse<Response> firstPage = StationApi.retrieveStationPage("/stations?limit=2");
+
+        // then
+        assertThat(firstPage.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(firstPage.jsonPath().getList("name", String.class)).containsExactly("강남역", "역삼역");
+        final String link = firstPage.header(HttpHeaders.LINK);
+        assertThat(link).endsWith("; rel=\"next\"");
+
+        // then
+        final String nextLocation = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        ExtractableResponse<Response> lastPage = StationApi.retrieveStationPage(nextLocation);
+        assertThat(lastPage.jsonPath().getList("name", String.class)).containsExactly("선릉역");
+        assertThat(lastPage.header(HttpHeaders.LINK)).isNull();
+    }
+
+    /**
+     * When 허용 범위를 벗어난 개수로 지하철역 목록을 나누어 조회하면
+     * Then 지하철역 목록을 조회할 수 없다
+     */
+    @DisplayName("허용 범위를 벗어난 개수로는 지하철역 목록을 나누어 조회할 수 없다.")
+    @Test
+    void retrieveStationPageWithInvalidLimit() {
+        // when
+        ExtractableResponse<Response> response = StationApi.retrieveStationPage("/stations?limit=0");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 개수 없이 커서만으로 지하철역 목록을 조회하면
+     * Then 커서 다음의 지하철역을 기본 개수만큼 응답 받고
+     * When 가장 큰 id 를 커서로 조회하면
+     * Then 빈 목록을 응답 받는다
+     */
+    @DisplayName("개수 없이 커서만으로 조회하면 기본 개수만큼 나누어 조회한다.")
+    @Test
+    void retrieveStationPageWithoutLimit() {
+        // given
+        List<Long> stationIds = StationApi.createStationsByNames(List.of("강남역", "역삼역", "선릉역"))
+                .jsonPath().getList("id", Long.class);
+
+        // when
+        ExtractableResponse<Response> response = StationApi.retrieveStationPage("/stations?after=" + stationIds.get(0));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly("역삼역", "선릉역");
+
+        // when
+        ExtractableResponse<Response> lastResponse = StationApi.retrieveStationPage("/stations?limit=10&after=" + Long.MAX_VALUE);
+
+        // then
+        assertThat(lastResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(lastResponse.jsonPath().getList("name", String.class)).isEmpty();
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 지하철역 목록을 스트리밍으로 조회하면
+     * Then 3개의 지하철역과 목록 조회와 같은 ETag 를 응답 받는다
+     */
+    @DisplayName("지하철역 목록을 스트리밍으로 조회한다.")
+    @Test
+    void streamStations() {
+        // given
+        final List<String> stationNames = List.of("강남역", "역삼역", "선릉역");
+        StationApi.createStationsByNames(stationNames);
+
+        // when
+        ExtractableResponse<Response> response = StationApi.streamStations();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactlyElementsOf(stationNames);
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(StationApi.retrieveStations().header(HttpHeaders.ETAG));
+    }
+
     /**
      * Given 지하철역을 생성하고
      * When 그 지하철역을 삭제하면
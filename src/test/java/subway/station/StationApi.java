@@ -6,6 +6,7 @@ import io.restassured.response.Response;
 import org.springframework.http.MediaType;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class StationApi {
@@ -20,6 +21,17 @@ public class StationApi {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> createStationsByNames(final List<String> stationNames) {
+        Map<String, List<String>> param = new HashMap<>();
+        param.put("names", stationNames);
+        return RestAssured.given().log().all()
+                .body(param)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations/batch")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> retrieveStations() {
         return RestAssured.given().log().all()
                 .when().get("/stations")
@@ -27,6 +39,21 @@ public class StationApi {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> retrieveStationPage(final String location) {
+        return RestAssured.given().log().all()
+                .when().get(location)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> streamStations() {
+        return RestAssured.given().log().all()
+                .queryParam("stream", true)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> deleteStationByLocation(final String createdLocation) {
         return RestAssured.given().log().all()
                 .when().delete(createdLocation)
@@ -0,0 +1,76 @@
+package subway.station;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import subway.ApiTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+
+/**
+ * 역 단건 생성과 일괄 생성의 초당 처리 행 수를 비교한다. ./gradlew benchmark -Pbenchmark.stations=5000 처럼 실행한다.
+ */
+@Tag("benchmark")
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@DisplayName("지하철역 일괄 생성 벤치마크")
+public class StationBatchBenchmarkTest extends ApiTest {
+
+    private static final int STATION_COUNT = Integer.getInteger("benchmark.stations", 2_000);
+
+    @DisplayName("역을 하나씩 생성한다.")
+    @Test
+    void createStationsOneByOne() {
+        List<String> names = stationNames("단건");
+
+        long startedAt = System.nanoTime();
+        names.forEach(name -> RestAssured.given()
+                .body(Map.of("name", name))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations")
+                .then().statusCode(201));
+        long elapsed = System.nanoTime() - startedAt;
+
+        report("one-by-one", elapsed);
+        assertThat(StationApi.retrieveStations().jsonPath().getList("id")).hasSize(STATION_COUNT);
+    }
+
+    @DisplayName("역을 한 번에 생성한다.")
+    @Test
+    void createStationsInBatch() {
+        List<String> names = stationNames("일괄");
+
+        long startedAt = System.nanoTime();
+        RestAssured.given()
+                .body(Map.of("names", names))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations/batch")
+                .then().statusCode(201);
+        long elapsed = System.nanoTime() - startedAt;
+
+        report("batch", elapsed);
+        assertThat(StationApi.retrieveStations().jsonPath().getList("id")).hasSize(STATION_COUNT);
+    }
+
+    private List<String> stationNames(final String prefix) {
+        return IntStream.range(0, STATION_COUNT)
+                .mapToObj(i -> prefix + i + "역")
+                .collect(Collectors.toList());
+    }
+
+    private void report(final String mode, final long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[station-benchmark] %-10s %,d rows in %.3f s (%,.0f rows/s)%n",
+                mode, STATION_COUNT, seconds, STATION_COUNT / seconds);
+    }
+}
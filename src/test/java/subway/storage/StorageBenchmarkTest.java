@@ -0,0 +1,115 @@
+package subway.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.SubwayApplication;
+import subway.line.dto.LineCreateRequest;
+import subway.line.dto.SectionCreateRequest;
+import subway.line.service.LineComponent;
+import subway.network.NetworkSnapshotLoader;
+import subway.station.model.Station;
+import subway.station.repository.StationRepository;
+import subway.station.service.StationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장 방식별로 같은 쓰기, 읽기 작업의 처리량을 잰다. 저장 방식마다 애플리케이션을 새로 띄우고, HTTP 를 거치지 않고 빈을 직접 불러
+ * 저장소 차이만 보이게 한다. 역은 일괄 저장 한 번에 한 트랜잭션, 구간은 하나에 한 트랜잭션이므로 구간 추가가 커밋 비용을 드러낸다.
+ * ./gradlew benchmark -Pbenchmark.rows=5000 처럼 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("저장 방식별 저장 벤치마크")
+public class StorageBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000);
+    private static final int RELOADS = Integer.getInteger("benchmark.reloads", 20);
+
+    @DisplayName("역 생성, 구간 추가, 노선도 읽기 처리량을 잰다.")
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "in-memory, default, 0",
+            "durable-sync, durable, 0",
+            "durable-delay, durable, 500"
+    })
+    void measureThroughput(final String mode, final String profile, final int writeDelayMillis) {
+        try (ConfigurableApplicationContext context = start(profile, writeDelayMillis)) {
+            List<Long> stationIds = insertStations(mode, context);
+            appendSections(mode, context, stationIds);
+            readNetwork(mode, context);
+        }
+    }
+
+    private ConfigurableApplicationContext start(final String profile, final int writeDelayMillis) {
+        return new SpringApplicationBuilder(SubwayApplication.class)
+                .profiles(profile)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "subway.durable.dir=build/benchmark-h2/" + UUID.randomUUID(),
+                        "subway.durable.write-delay-ms=" + writeDelayMillis)
+                .run();
+    }
+
+    private List<Long> insertStations(final String mode, final ConfigurableApplicationContext context) {
+        StationRepository stationRepository = context.getBean(StationRepository.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        List<Long> stationIds = new ArrayList<>(ROWS);
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < ROWS; from += StationService.MAX_BATCH_SIZE) {
+            List<Station> chunk = IntStream.range(from, Math.min(from + StationService.MAX_BATCH_SIZE, ROWS))
+                    .mapToObj(i -> Station.builder().name(i + "역").build())
+                    .collect(Collectors.toList());
+            transactionTemplate.executeWithoutResult(status -> stationRepository.saveAll(chunk)
+                    .forEach(station -> stationIds.add(station.getId())));
+        }
+        report(mode, "station insert", ROWS, System.nanoTime() - startedAt);
+        return stationIds;
+    }
+
+    private void appendSections(final String mode, final ConfigurableApplicationContext context, final List<Long> stationIds) {
+        LineComponent lineComponent = context.getBean(LineComponent.class);
+        Long lineId = lineComponent.createLine(LineCreateRequest.builder()
+                .name("2호선")
+                .color("bg-green-600")
+                .upStationId(stationIds.get(0))
+                .downStationId(stationIds.get(1))
+                .distance(10L)
+                .build()).getId();
+        long startedAt = System.nanoTime();
+        for (int i = 1; i < ROWS - 1; i++) {
+            lineComponent.appendSection(lineId, SectionCreateRequest.builder()
+                    .upStationId(stationIds.get(i))
+                    .downStationId(stationIds.get(i + 1))
+                    .distance(10L)
+                    .build());
+        }
+        report(mode, "section append", ROWS - 2, System.nanoTime() - startedAt);
+    }
+
+    private void readNetwork(final String mode, final ConfigurableApplicationContext context) {
+        NetworkSnapshotLoader networkSnapshotLoader = context.getBean(NetworkSnapshotLoader.class);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < RELOADS; i++) {
+            assertThat(networkSnapshotLoader.loadAll().getStations()).hasSize(ROWS);
+        }
+        report(mode, "network read", RELOADS, System.nanoTime() - startedAt);
+    }
+
+    private void report(final String mode, final String operation, final int operations, final long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[storage-benchmark] %-13s %-15s %,d ops in %.3f s (%,.0f ops/s)%n",
+                mode, operation, operations, seconds, operations / seconds);
+    }
+}